@@ -0,0 +1,266 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Growable list of ints for more than 2^31 values. The values are stored in pages of a fixed power of two size, either int arrays on the heap or direct buffers outside of the heap. Growing allocates one more page and never copies existing values, so the capacity is only bounded by the available memory and no growth needs more than one extra page.
+ *
+ * The memory of off heap pages is released by {@link #close()}, the list must not be used afterwards. Not thread safe.
+ */
+public class ChunkedIntList implements AutoCloseable {
+    // 2^20 ints = 4 MB per page
+    static final int DEFAULT_PAGE_BITS = 20;
+
+    // a direct buffer is limited to 2 GB
+    static final int MAXIMUM_PAGE_BITS = 28;
+
+    private static final int INT_SHIFT = 2;
+
+    /* ---------------- Fields -------------- */
+
+    private final boolean offHeap;
+
+    private final int pageBits;
+
+    private final int pageMask;
+
+    private int[][] heapPages;
+
+    private ByteBuffer[] directPages;
+
+    private int pageCount;
+
+    private long size;
+
+    private boolean closed;
+
+    public ChunkedIntList() {
+        this(DEFAULT_PAGE_BITS, false);
+    }
+
+    public ChunkedIntList(boolean offHeap) {
+        this(DEFAULT_PAGE_BITS, offHeap);
+    }
+
+    /**
+     * @param pageBits
+     *            log2 of the number of values per page, at most {@link #MAXIMUM_PAGE_BITS}
+     * @param offHeap
+     *            true to store the values in direct buffers outside of the heap
+     */
+    public ChunkedIntList(int pageBits, boolean offHeap) {
+        if (pageBits < 0 || pageBits > MAXIMUM_PAGE_BITS)
+            throw new IllegalArgumentException("Illegal page bits: " + pageBits);
+        this.offHeap = offHeap;
+        this.pageBits = pageBits;
+        this.pageMask = (1 << pageBits) - 1;
+        if (offHeap) {
+            directPages = new ByteBuffer[4];
+        } else {
+            heapPages = new int[4][];
+        }
+    }
+
+    /* ---------------- Public operations -------------- */
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * @return the number of values which fit into the allocated pages
+     */
+    public long capacity() {
+        return (long) pageCount << pageBits;
+    }
+
+    public void add(int data) {
+        checkOpen();
+        long s = size;
+        if (s == capacity()) {
+            addPage();
+        }
+        int page = (int) (s >>> pageBits);
+        int offset = (int) s & pageMask;
+        if (offHeap) {
+            directPages[page].putInt(offset << INT_SHIFT, data);
+        } else {
+            heapPages[page][offset] = data;
+        }
+        size = s + 1;
+    }
+
+    public void addAll(int[] data) {
+        addAll(data, 0, data.length);
+    }
+
+    /**
+     * Appends length values of data starting at offset, page by page
+     */
+    public void addAll(int[] data, int offset, int length) {
+        checkOpen();
+        checkArrayRange(data, offset, length);
+        while (length > 0) {
+            if (size == capacity()) {
+                addPage();
+            }
+            int page = (int) (size >>> pageBits);
+            int pageOffset = (int) size & pageMask;
+            int chunk = Math.min(length, pageMask + 1 - pageOffset);
+            if (offHeap) {
+                ByteBuffer buffer = directPages[page].duplicate().order(ByteOrder.nativeOrder());
+                buffer.position(pageOffset << INT_SHIFT);
+                buffer.asIntBuffer().put(data, offset, chunk);
+            } else {
+                System.arraycopy(data, offset, heapPages[page], pageOffset, chunk);
+            }
+            size += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    public int get(long index) {
+        checkIndex(index);
+        int page = (int) (index >>> pageBits);
+        int offset = (int) index & pageMask;
+        return offHeap ? directPages[page].getInt(offset << INT_SHIFT) : heapPages[page][offset];
+    }
+
+    public void set(long index, int data) {
+        checkIndex(index);
+        int page = (int) (index >>> pageBits);
+        int offset = (int) index & pageMask;
+        if (offHeap) {
+            directPages[page].putInt(offset << INT_SHIFT, data);
+        } else {
+            heapPages[page][offset] = data;
+        }
+    }
+
+    /**
+     * Removes the last value
+     *
+     * @return the removed value
+     */
+    public int removeLast() {
+        int data = get(size - 1);
+        size -= 1;
+        return data;
+    }
+
+    /**
+     * Copies length values starting at index into target
+     */
+    public void copyTo(long index, int[] target, int offset, int length) {
+        checkOpen();
+        checkArrayRange(target, offset, length);
+        if (index < 0 || index + length > size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length + ", size: " + size);
+        while (length > 0) {
+            int page = (int) (index >>> pageBits);
+            int pageOffset = (int) index & pageMask;
+            int chunk = Math.min(length, pageMask + 1 - pageOffset);
+            if (offHeap) {
+                ByteBuffer buffer = directPages[page].duplicate().order(ByteOrder.nativeOrder());
+                buffer.position(pageOffset << INT_SHIFT);
+                buffer.asIntBuffer().get(target, offset, chunk);
+            } else {
+                System.arraycopy(heapPages[page], pageOffset, target, offset, chunk);
+            }
+            index += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    public void forEach(IntConsumer action) {
+        checkOpen();
+        Objects.requireNonNull(action);
+        for (int page = 0; size > (long) page << pageBits; ++page) {
+            int end = (int) Math.min(pageMask + 1, size - ((long) page << pageBits));
+            if (offHeap) {
+                ByteBuffer buffer = directPages[page];
+                for (int i = 0; i < end; ++i) {
+                    action.accept(buffer.getInt(i << INT_SHIFT));
+                }
+            } else {
+                int[] values = heapPages[page];
+                for (int i = 0; i < end; ++i) {
+                    action.accept(values[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all values, the allocated pages are kept for reuse.
+     */
+    public void clear() {
+        checkOpen();
+        size = 0;
+    }
+
+    /**
+     * Releases the pages (off heap memory immediately). The list must not be used afterwards, calling close again has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        if (offHeap) {
+            for (int i = 0; i < pageCount; ++i) {
+                DirectMemory.free(directPages[i]);
+            }
+        }
+        directPages = null;
+        heapPages = null;
+        pageCount = 0;
+        size = 0;
+    }
+
+    /* ---------------- Internals -------------- */
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException("List has been closed");
+    }
+
+    private void checkIndex(long index) {
+        checkOpen();
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+
+    private static void checkArrayRange(int[] array, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > array.length - length)
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", length: " + length + ", array length: " + array.length);
+    }
+
+    private void addPage() {
+        if (offHeap) {
+            if (pageCount == directPages.length)
+                directPages = Arrays.copyOf(directPages, pageCount << 1);
+            directPages[pageCount] = DirectMemory.allocate((pageMask + 1) << INT_SHIFT);
+        } else {
+            if (pageCount == heapPages.length)
+                heapPages = Arrays.copyOf(heapPages, pageCount << 1);
+            heapPages[pageCount] = new int[pageMask + 1];
+        }
+        ++pageCount;
+    }
+
+}
@@ -0,0 +1,764 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed sorted set of ints (roaring bitmap layout). The values are partitioned by their upper 16 bits into chunks of 65536 values. Each chunk is stored in a container: sparse chunks (up to {@link #MAX_ARRAY_SIZE} values) as a sorted char array, dense chunks as a bitmap of 8 KB. Dense id ranges therefore cost about one bit per element, sparse ones 2 bytes.
+ *
+ * The set is ordered by the signed value, i.e. {@link #forEach(IntConsumer)}, {@link #rank(int)} and {@link #select(long)} see negative values first. The set operations {@link #and(CompressedIntSet)}, {@link #or(CompressedIntSet)} and {@link #andNot(CompressedIntSet)} work chunk by chunk; bitmap against bitmap is a plain loop over the 1024 words, which the JIT vectorizes. Not thread safe.
+ */
+public class CompressedIntSet {
+    /**
+     * Maximum number of values of an array container, above a bitmap container (8 KB) is smaller.
+     */
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    private static final int INITIAL_CONTAINERS = 4;
+
+    /* ---------------- Fields -------------- */
+
+    // upper 16 bits of the values with the sign bit flipped, so that the unsigned char order is the signed int order
+    private char[] keys;
+
+    private Container[] containers;
+
+    private int size;
+
+    public CompressedIntSet() {
+        keys = new char[INITIAL_CONTAINERS];
+        containers = new Container[INITIAL_CONTAINERS];
+    }
+
+    private CompressedIntSet(int capacity) {
+        keys = new char[Math.max(1, capacity)];
+        containers = new Container[Math.max(1, capacity)];
+    }
+
+    /* ---------------- Public operations -------------- */
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of values, up to 2^32
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; ++i) {
+            cardinality += containers[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    public boolean contains(int value) {
+        int i = index(high(value));
+        return i >= 0 && containers[i].contains(low(value));
+    }
+
+    /**
+     * @return true if the value has not been contained before
+     */
+    public boolean add(int value) {
+        char high = high(value);
+        int i = index(high);
+        if (i < 0) {
+            ArrayContainer container = new ArrayContainer(1);
+            container.add(low(value));
+            insertContainer(-i - 1, high, container);
+            return true;
+        }
+        Container container = containers[i];
+        int cardinality = container.cardinality;
+        containers[i] = container = container.add(low(value));
+        return container.cardinality != cardinality;
+    }
+
+    public void addAll(int[] values) {
+        for (int value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Adds all values from fromInclusive to toExclusive. Chunks which are completely covered are stored as full bitmaps without touching each value.
+     */
+    public void addRange(int fromInclusive, int toExclusive) {
+        if (fromInclusive >= toExclusive)
+            return;
+        int last = toExclusive - 1;
+        char firstHigh = high(fromInclusive);
+        char lastHigh = high(last);
+        for (int high = firstHigh; high <= lastHigh; ++high) {
+            int lo = high == firstHigh ? low(fromInclusive) : 0;
+            int hi = high == lastHigh ? low(last) : 0xFFFF;
+            int i = index((char) high);
+            if (i >= 0) {
+                containers[i] = containers[i].addRange(lo, hi);
+            } else {
+                Container container = hi - lo + 1 > MAX_ARRAY_SIZE ? new BitmapContainer() : new ArrayContainer(hi - lo + 1);
+                insertContainer(-i - 1, (char) high, container.addRange(lo, hi));
+            }
+        }
+    }
+
+    /**
+     * @return true if the value has been contained
+     */
+    public boolean remove(int value) {
+        int i = index(high(value));
+        if (i < 0)
+            return false;
+        Container container = containers[i];
+        int cardinality = container.cardinality;
+        containers[i] = container = container.remove(low(value));
+        if (container.cardinality == 0)
+            removeContainer(i);
+        return container.cardinality != cardinality;
+    }
+
+    public void clear() {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * @return the number of values which are smaller than or equal to the given value
+     */
+    public long rank(int value) {
+        char high = high(value);
+        long rank = 0;
+        for (int i = 0; i < size; ++i) {
+            char key = keys[i];
+            if (key > high)
+                break;
+            if (key == high)
+                return rank + containers[i].rank(low(value));
+            rank += containers[i].cardinality;
+        }
+        return rank;
+    }
+
+    /**
+     * @return the value at the given position of the sorted set (0 is the smallest value)
+     * @throws IndexOutOfBoundsException
+     *             if the index is negative or not smaller than the cardinality
+     */
+    public int select(long index) {
+        if (index >= 0) {
+            long remaining = index;
+            for (int i = 0; i < size; ++i) {
+                Container container = containers[i];
+                if (remaining < container.cardinality)
+                    return value(keys[i], container.select((int) remaining));
+                remaining -= container.cardinality;
+            }
+        }
+        throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    /**
+     * Performs the action for each value in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < size; ++i) {
+            containers[i].forEach(value(keys[i], 0), action);
+        }
+    }
+
+    /**
+     * @return the values in ascending order
+     */
+    public int[] toArray() {
+        int[] result = new int[Math.toIntExact(cardinality())];
+        int offset = 0;
+        for (int i = 0; i < size; ++i) {
+            offset = containers[i].copyTo(value(keys[i], 0), result, offset);
+        }
+        return result;
+    }
+
+    /**
+     * @return the approximate heap size of the set
+     */
+    public long getSizeInBytes() {
+        long bytes = 16 + keys.length * 2L + containers.length * 4L;
+        for (int i = 0; i < size; ++i) {
+            bytes += containers[i].getSizeInBytes();
+        }
+        return bytes;
+    }
+
+    /* ---------------- Set algebra -------------- */
+
+    /**
+     * @return a new set with the values contained in this and the other set
+     */
+    public CompressedIntSet and(CompressedIntSet other) {
+        CompressedIntSet result = new CompressedIntSet(Math.min(size, other.size));
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            char a = keys[i];
+            char b = other.keys[j];
+            if (a < b) {
+                ++i;
+            } else if (a > b) {
+                ++j;
+            } else {
+                Container container = containers[i++].and(other.containers[j++]);
+                if (container.cardinality > 0)
+                    result.appendContainer(a, container);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return a new set with the values contained in this or the other set
+     */
+    public CompressedIntSet or(CompressedIntSet other) {
+        CompressedIntSet result = new CompressedIntSet(size + other.size);
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            char a = keys[i];
+            char b = other.keys[j];
+            if (a < b) {
+                result.appendContainer(a, containers[i++].copy());
+            } else if (a > b) {
+                result.appendContainer(b, other.containers[j++].copy());
+            } else {
+                result.appendContainer(a, containers[i++].or(other.containers[j++]));
+            }
+        }
+        for (; i < size; ++i) {
+            result.appendContainer(keys[i], containers[i].copy());
+        }
+        for (; j < other.size; ++j) {
+            result.appendContainer(other.keys[j], other.containers[j].copy());
+        }
+        return result;
+    }
+
+    /**
+     * @return a new set with the values contained in this but not in the other set
+     */
+    public CompressedIntSet andNot(CompressedIntSet other) {
+        CompressedIntSet result = new CompressedIntSet(size);
+        int i = 0, j = 0;
+        while (i < size) {
+            char a = keys[i];
+            while (j < other.size && other.keys[j] < a) {
+                ++j;
+            }
+            Container container = j < other.size && other.keys[j] == a ? containers[i].andNot(other.containers[j]) : containers[i].copy();
+            if (container.cardinality > 0)
+                result.appendContainer(a, container);
+            ++i;
+        }
+        return result;
+    }
+
+    /* ---------------- Internals -------------- */
+
+    static char high(int value) {
+        return (char) ((value >>> 16) ^ 0x8000);
+    }
+
+    static char low(int value) {
+        return (char) value;
+    }
+
+    static int value(char high, int low) {
+        return ((high ^ 0x8000) << 16) | low;
+    }
+
+    private int index(char high) {
+        // the last container is the most likely one when values are added in ascending order
+        if (size > 0 && keys[size - 1] == high)
+            return size - 1;
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (size == keys.length) {
+            int newLength = Math.min(size << 1, 1 << 16);
+            keys = Arrays.copyOf(keys, newLength);
+            containers = Arrays.copyOf(containers, newLength);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        ++size;
+    }
+
+    private void appendContainer(char key, Container container) {
+        insertContainer(size, key, container);
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    /**
+     * Set of the lower 16 bits of the values of a chunk. Modifications return the container which has to be used from now on, it changes when the cardinality crosses {@link CompressedIntSet#MAX_ARRAY_SIZE}.
+     */
+    abstract static class Container {
+        int cardinality;
+
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        /**
+         * Adds all values from lo to hi, both inclusive.
+         */
+        abstract Container addRange(int lo, int hi);
+
+        abstract Container remove(char low);
+
+        /**
+         * @return the number of values which are smaller than or equal to low
+         */
+        abstract int rank(char low);
+
+        abstract int select(int index);
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract Container copy();
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract int copyTo(int high, int[] target, int offset);
+
+        abstract long getSizeInBytes();
+    }
+
+    /**
+     * Sorted array of up to {@link CompressedIntSet#MAX_ARRAY_SIZE} values.
+     */
+    static final class ArrayContainer extends Container {
+        char[] content;
+
+        ArrayContainer(int capacity) {
+            content = new char[capacity];
+        }
+
+        ArrayContainer(char[] content, int cardinality) {
+            this.content = content;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(content, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        Container add(char low) {
+            int i = Arrays.binarySearch(content, 0, cardinality, low);
+            if (i >= 0)
+                return this;
+            if (cardinality == MAX_ARRAY_SIZE)
+                return toBitmap().add(low);
+            i = -i - 1;
+            if (cardinality == content.length)
+                content = Arrays.copyOf(content, Math.min(Math.max(4, cardinality << 1), MAX_ARRAY_SIZE));
+            System.arraycopy(content, i, content, i + 1, cardinality - i);
+            content[i] = low;
+            ++cardinality;
+            return this;
+        }
+
+        @Override
+        Container addRange(int lo, int hi) {
+            int start = Arrays.binarySearch(content, 0, cardinality, (char) lo);
+            start = start >= 0 ? start : -start - 1;
+            int end = Arrays.binarySearch(content, start, cardinality, (char) hi);
+            end = end >= 0 ? end + 1 : -end - 1;
+            int length = hi - lo + 1;
+            int newCardinality = start + length + cardinality - end;
+            if (newCardinality > MAX_ARRAY_SIZE)
+                return toBitmap().addRange(lo, hi);
+            char[] target = newCardinality <= content.length ? content : new char[newCardinality];
+            System.arraycopy(content, end, target, start + length, cardinality - end);
+            System.arraycopy(content, 0, target, 0, start);
+            for (int k = 0; k < length; ++k) {
+                target[start + k] = (char) (lo + k);
+            }
+            content = target;
+            cardinality = newCardinality;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int i = Arrays.binarySearch(content, 0, cardinality, low);
+            if (i >= 0) {
+                System.arraycopy(content, i + 1, content, i, cardinality - i - 1);
+                --cardinality;
+            }
+            return this;
+        }
+
+        @Override
+        int rank(char low) {
+            int i = Arrays.binarySearch(content, 0, cardinality, low);
+            return i >= 0 ? i + 1 : -i - 1;
+        }
+
+        @Override
+        int select(int index) {
+            return content[index];
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[Math.min(cardinality, other.cardinality)];
+            int count = 0;
+            if (other instanceof ArrayContainer) {
+                char[] b = ((ArrayContainer) other).content;
+                int bc = other.cardinality;
+                for (int i = 0, j = 0; i < cardinality && j < bc;) {
+                    char x = content[i];
+                    char y = b[j];
+                    if (x < y) {
+                        ++i;
+                    } else if (x > y) {
+                        ++j;
+                    } else {
+                        result[count++] = x;
+                        ++i;
+                        ++j;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; ++i) {
+                    char x = content[i];
+                    if (other.contains(x))
+                        result[count++] = x;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer)
+                return other.or(this);
+            char[] b = ((ArrayContainer) other).content;
+            int bc = other.cardinality;
+            if (cardinality + bc > MAX_ARRAY_SIZE) {
+                BitmapContainer bitmap = toBitmap();
+                for (int j = 0; j < bc; ++j) {
+                    bitmap.set(b[j]);
+                }
+                return bitmap.compact();
+            }
+            char[] result = new char[cardinality + bc];
+            int i = 0, j = 0, count = 0;
+            while (i < cardinality && j < bc) {
+                char x = content[i];
+                char y = b[j];
+                if (x < y) {
+                    result[count++] = x;
+                    ++i;
+                } else if (x > y) {
+                    result[count++] = y;
+                    ++j;
+                } else {
+                    result[count++] = x;
+                    ++i;
+                    ++j;
+                }
+            }
+            while (i < cardinality) {
+                result[count++] = content[i++];
+            }
+            while (j < bc) {
+                result[count++] = b[j++];
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            if (other instanceof ArrayContainer) {
+                char[] b = ((ArrayContainer) other).content;
+                int bc = other.cardinality;
+                int j = 0;
+                for (int i = 0; i < cardinality; ++i) {
+                    char x = content[i];
+                    while (j < bc && b[j] < x) {
+                        ++j;
+                    }
+                    if (j == bc || b[j] != x)
+                        result[count++] = x;
+                }
+            } else {
+                for (int i = 0; i < cardinality; ++i) {
+                    char x = content[i];
+                    if (!other.contains(x))
+                        result[count++] = x;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(content, cardinality), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; ++i) {
+                action.accept(high | content[i]);
+            }
+        }
+
+        @Override
+        int copyTo(int high, int[] target, int offset) {
+            for (int i = 0; i < cardinality; ++i) {
+                target[offset++] = high | content[i];
+            }
+            return offset;
+        }
+
+        @Override
+        long getSizeInBytes() {
+            return 32 + content.length * 2L;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; ++i) {
+                bitmap.set(content[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * Bitmap of all 65536 values of a chunk, used for more than {@link CompressedIntSet#MAX_ARRAY_SIZE} values.
+     */
+    static final class BitmapContainer extends Container {
+        static final int WORDS = 1 << 10;
+
+        final long[] words;
+
+        BitmapContainer() {
+            words = new long[WORDS];
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(char low) {
+            set(low);
+            return this;
+        }
+
+        void set(char low) {
+            int i = low >>> 6;
+            long w = words[i];
+            long nw = w | (1L << low);
+            words[i] = nw;
+            cardinality += (int) ((w ^ nw) >>> (low & 63));
+        }
+
+        @Override
+        Container addRange(int lo, int hi) {
+            int first = lo >>> 6;
+            int last = hi >>> 6;
+            long firstMask = -1L << lo;
+            long lastMask = -1L >>> (63 - (hi & 63));
+            if (first == last) {
+                words[first] |= firstMask & lastMask;
+            } else {
+                words[first] |= firstMask;
+                Arrays.fill(words, first + 1, last, -1L);
+                words[last] |= lastMask;
+            }
+            int count = 0;
+            for (long w : words) {
+                count += Long.bitCount(w);
+            }
+            cardinality = count;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int i = low >>> 6;
+            long w = words[i];
+            long nw = w & ~(1L << low);
+            if (w != nw) {
+                words[i] = nw;
+                --cardinality;
+                return compact();
+            }
+            return this;
+        }
+
+        @Override
+        int rank(char low) {
+            int last = low >>> 6;
+            int rank = 0;
+            for (int i = 0; i < last; ++i) {
+                rank += Long.bitCount(words[i]);
+            }
+            return rank + Long.bitCount(words[last] & (-1L >>> (63 - (low & 63))));
+        }
+
+        @Override
+        int select(int index) {
+            int remaining = index;
+            for (int i = 0; i < WORDS; ++i) {
+                long w = words[i];
+                int count = Long.bitCount(w);
+                if (remaining < count) {
+                    for (; remaining > 0; --remaining) {
+                        w &= w - 1;
+                    }
+                    return (i << 6) + Long.numberOfTrailingZeros(w);
+                }
+                remaining -= count;
+            }
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer)
+                return other.and(this);
+            long[] b = ((BitmapContainer) other).words;
+            long[] result = new long[WORDS];
+            int count = 0;
+            for (int i = 0; i < WORDS; ++i) {
+                long w = words[i] & b[i];
+                result[i] = w;
+                count += Long.bitCount(w);
+            }
+            return new BitmapContainer(result, count).compact();
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof ArrayContainer) {
+                BitmapContainer result = copy();
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; ++i) {
+                    result.set(array.content[i]);
+                }
+                return result;
+            }
+            long[] b = ((BitmapContainer) other).words;
+            long[] result = new long[WORDS];
+            int count = 0;
+            for (int i = 0; i < WORDS; ++i) {
+                long w = words[i] | b[i];
+                result[i] = w;
+                count += Long.bitCount(w);
+            }
+            return new BitmapContainer(result, count);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            if (other instanceof ArrayContainer) {
+                BitmapContainer result = copy();
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; ++i) {
+                    char low = array.content[i];
+                    long w = result.words[low >>> 6];
+                    long nw = w & ~(1L << low);
+                    result.words[low >>> 6] = nw;
+                    result.cardinality -= (int) ((w ^ nw) >>> (low & 63));
+                }
+                return result.compact();
+            }
+            long[] b = ((BitmapContainer) other).words;
+            long[] result = new long[WORDS];
+            int count = 0;
+            for (int i = 0; i < WORDS; ++i) {
+                long w = words[i] & ~b[i];
+                result[i] = w;
+                count += Long.bitCount(w);
+            }
+            return new BitmapContainer(result, count).compact();
+        }
+
+        @Override
+        BitmapContainer copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < WORDS; ++i) {
+                long w = words[i];
+                while (w != 0) {
+                    action.accept(high | ((i << 6) + Long.numberOfTrailingZeros(w)));
+                    w &= w - 1;
+                }
+            }
+        }
+
+        @Override
+        int copyTo(int high, int[] target, int offset) {
+            for (int i = 0; i < WORDS; ++i) {
+                long w = words[i];
+                while (w != 0) {
+                    target[offset++] = high | ((i << 6) + Long.numberOfTrailingZeros(w));
+                    w &= w - 1;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        long getSizeInBytes() {
+            return 32 + WORDS * 8L;
+        }
+
+        /**
+         * @return an array container with the same content if it is small enough, otherwise this
+         */
+        Container compact() {
+            if (cardinality > MAX_ARRAY_SIZE)
+                return this;
+            char[] content = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < WORDS; ++i) {
+                long w = words[i];
+                while (w != 0) {
+                    content[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(w));
+                    w &= w - 1;
+                }
+            }
+            return new ArrayContainer(content, count);
+        }
+    }
+
+}
@@ -0,0 +1,276 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Thread safe map with int keys based on lock striping: the keys are distributed over a power of two number of {@link IntOpenHashMap} segments and every segment is guarded by its own monitor. Writers working on different segments do not block each other.
+ *
+ * All single key operations are atomic, in particular {@link #computeIfAbsent(int, Function)}, {@link #compute(int, BiFunction)} and {@link #merge(int, Object, BiFunction)} - the functions are called while the segment is locked, so they should be short and must not access this map. Null values are not supported.
+ *
+ * Bulk operations ({@link #size()}, {@link #forEach(IntObjConsumer)}, ...) lock one segment after the other, they do not represent a snapshot of the whole map.
+ *
+ * @param <V>
+ */
+public class ConcurrentIntHashMap<V> {
+    static final int MAXIMUM_SEGMENTS = 1 << 16;
+
+    static final int DEFAULT_CONCURRENCY_LEVEL = IntHashMap.tableSizeFor(Runtime.getRuntime().availableProcessors() * 4);
+
+    /* ---------------- Fields -------------- */
+
+    private final IntOpenHashMap<V>[] segments;
+
+    private final int segmentShift;
+
+    private final IntKeyMixer mixer;
+
+    /* ---------------- Public operations -------------- */
+
+    /**
+     * @param initialCapacity
+     *            the expected number of mappings of the whole map
+     * @param concurrencyLevel
+     *            the estimated number of concurrently writing threads, rounded up to the next power of two to get the number of segments
+     * @param mixer
+     *            spreads the keys before segment and slot are selected
+     * @throws IllegalArgumentException
+     *             if the initial capacity is negative or the concurrency level is not positive
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public ConcurrentIntHashMap(int initialCapacity, int concurrencyLevel, IntKeyMixer mixer) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        if (concurrencyLevel <= 0)
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        this.mixer = Objects.requireNonNull(mixer);
+        int segmentCount = Math.max(2, Math.min(MAXIMUM_SEGMENTS, IntHashMap.tableSizeFor(concurrencyLevel)));
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        this.segments = new IntOpenHashMap[segmentCount];
+        int segmentCapacity = (int) Math.min(Integer.MAX_VALUE, ((long) initialCapacity + segmentCount - 1) / segmentCount);
+        for (int i = 0; i < segmentCount; ++i) {
+            segments[i] = new IntOpenHashMap<>(segmentCapacity, IntOpenHashMap.DEFAULT_LOAD_FACTOR, mixer);
+        }
+    }
+
+    public ConcurrentIntHashMap(int initialCapacity, int concurrencyLevel) {
+        this(initialCapacity, concurrencyLevel, IntKeyMixer.FIBONACCI);
+    }
+
+    public ConcurrentIntHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    public ConcurrentIntHashMap() {
+        this(IntOpenHashMap.DEFAULT_INITIAL_CAPACITY * DEFAULT_CONCURRENCY_LEVEL, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * @return the number of mappings, not a snapshot if the map is modified concurrently
+     */
+    public int size() {
+        long size = 0;
+        for (IntOpenHashMap<V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    public boolean isEmpty() {
+        for (IntOpenHashMap<V> segment : segments) {
+            synchronized (segment) {
+                if (!segment.isEmpty())
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    public V get(int key) {
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.getOrDefault(key, defaultValue);
+        }
+    }
+
+    public boolean containsKey(int key) {
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.containsKey(key);
+        }
+    }
+
+    public V put(int key, V value) {
+        if (value == null)
+            throw new NullPointerException();
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.put(key, value);
+        }
+    }
+
+    public V putIfAbsent(int key, V value) {
+        if (value == null)
+            throw new NullPointerException();
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.putIfAbsent(key, value);
+        }
+    }
+
+    public V remove(int key) {
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    public boolean remove(int key, Object value) {
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.remove(key, value);
+        }
+    }
+
+    public boolean replace(int key, V oldValue, V newValue) {
+        if (newValue == null)
+            throw new NullPointerException();
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.replace(key, oldValue, newValue);
+        }
+    }
+
+    /**
+     * Atomically computes and stores the value if the key is absent. The function is called at most once per call while the segment is locked.
+     */
+    public V computeIfAbsent(int key, Function<Integer, ? extends V> mappingFunction) {
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.computeIfAbsent(key, mappingFunction);
+        }
+    }
+
+    public V computeIfPresent(int key, BiFunction<Integer, ? super V, ? extends V> remappingFunction) {
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.computeIfPresent(key, remappingFunction);
+        }
+    }
+
+    public V compute(int key, BiFunction<Integer, ? super V, ? extends V> remappingFunction) {
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.compute(key, remappingFunction);
+        }
+    }
+
+    /**
+     * Atomically merges the value into the existing value of the key (or stores it if the key is absent).
+     */
+    public V merge(int key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        IntOpenHashMap<V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.merge(key, value, remappingFunction);
+        }
+    }
+
+    public void clear() {
+        for (IntOpenHashMap<V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public void forEachKey(IntConsumer action) {
+        Objects.requireNonNull(action);
+        for (IntOpenHashMap<V> segment : segments) {
+            synchronized (segment) {
+                segment.forEachKey(action);
+            }
+        }
+    }
+
+    public void forEach(IntObjConsumer<? super V> action) {
+        Objects.requireNonNull(action);
+        for (IntOpenHashMap<V> segment : segments) {
+            synchronized (segment) {
+                segment.forEachEntry(action);
+            }
+        }
+    }
+
+    /**
+     * Performs the action for each mapping, in parallel on the common fork join pool if the map holds at least parallelismThreshold mappings. The action has to be thread safe; calls for mappings of the same segment are never concurrent.
+     *
+     * @param parallelismThreshold
+     *            the (estimated) number of mappings needed for the operation to be executed in parallel, Long.MAX_VALUE suppresses any parallelism
+     * @param action
+     *            the action
+     */
+    public void forEach(long parallelismThreshold, IntObjConsumer<? super V> action) {
+        Objects.requireNonNull(action);
+        if (parallelismThreshold == Long.MAX_VALUE || size() < parallelismThreshold) {
+            forEach(action);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ForEachTask<>(segments, 0, segments.length, action));
+        }
+    }
+
+    /* ---------------- Internals -------------- */
+
+    /**
+     * The segment is selected by the upper bits of the mixed key multiplied once more, so even with {@link IntKeyMixer#IDENTITY} small keys are spread over all segments while the slot within the segment is still given by the lower bits of the mixed key.
+     */
+    private IntOpenHashMap<V> segmentFor(int key) {
+        return segments[(mixer.mix(key) * 0x9E3779B9) >>> segmentShift];
+    }
+
+    final int segmentCount() {
+        return segments.length;
+    }
+
+    private static final class ForEachTask<V> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IntOpenHashMap<V>[] segments;
+        private final int from;
+        private final int to;
+        private final IntObjConsumer<? super V> action;
+
+        ForEachTask(IntOpenHashMap<V>[] segments, int from, int to, IntObjConsumer<? super V> action) {
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                IntOpenHashMap<V> segment = segments[from];
+                synchronized (segment) {
+                    segment.forEachEntry(action);
+                }
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ForEachTask<>(segments, from, mid, action), new ForEachTask<>(segments, mid, to, action));
+            }
+        }
+    }
+
+}
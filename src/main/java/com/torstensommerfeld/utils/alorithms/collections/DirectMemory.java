@@ -0,0 +1,66 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.Consumer;
+
+/**
+ * Allocation and explicit release of direct buffers. Direct memory is normally only returned once the garbage collector finds the buffer unreachable, which may take a long time for buffers surviving in the old generation. {@link #free(ByteBuffer)} releases the memory immediately via the jdk internal cleaner (java 9+: Unsafe.invokeCleaner, java 8: DirectBuffer.cleaner()); if neither is accessible the release is left to the garbage collector.
+ */
+final class DirectMemory {
+
+    private static final Consumer<ByteBuffer> CLEANER = createCleaner();
+
+    private DirectMemory() {
+    }
+
+    static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Releases the memory of the direct buffer, the buffer must not be accessed afterwards.
+     */
+    static void free(ByteBuffer buffer) {
+        if (buffer != null && buffer.isDirect()) {
+            CLEANER.accept(buffer);
+        }
+    }
+
+    private static Consumer<ByteBuffer> createCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            return buffer -> invoke(invokeCleaner, unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // not java 9+
+        }
+        try {
+            Method cleanerMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method cleanMethod = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> {
+                Object cleaner = invoke(cleanerMethod, buffer);
+                if (cleaner != null) {
+                    invoke(cleanMethod, cleaner);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // no access to the cleaner, the garbage collector has to do the job
+            return buffer -> {
+            };
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
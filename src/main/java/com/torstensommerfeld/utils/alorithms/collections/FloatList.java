@@ -0,0 +1,162 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import com.torstensommerfeld.utils.alorithms.sort.radix.RadixSortFloat;
+
+public class FloatList implements RandomAccess {
+    /**
+     * From this size on {@link #sort()} uses the radix sort
+     */
+    static final int RADIX_SORT_THRESHOLD = 1 << 16;
+
+    private float[] buffer;
+    private int size;
+
+    public FloatList() {
+        this(10);
+    }
+
+    public FloatList(int initialCapacity) {
+        buffer = new float[initialCapacity];
+    }
+
+    public float[] getBuffer() {
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Grows the buffer (if necessary) so that it holds at least minCapacity values
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(minCapacity, buffer.length * 2L + 1)));
+        }
+    }
+
+    public void add(float data) {
+        if (buffer.length - size == 0) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2 + 1);
+        }
+        buffer[size++] = data;
+    }
+
+    /**
+     * Inserts the value at the index, the following values are moved one position back
+     */
+    public void add(int index, float data) {
+        checkPositionIndex(index);
+        ensureCapacity(size + 1);
+        System.arraycopy(buffer, index, buffer, index + 1, size - index);
+        buffer[index] = data;
+        size += 1;
+    }
+
+    public void addAll(float[] data) {
+        addAll(data, 0, data.length);
+    }
+
+    /**
+     * Appends length values of data starting at offset
+     */
+    public void addAll(float[] data, int offset, int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(data, offset, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * Inserts length values of data starting at offset at the index, the following values are moved back
+     */
+    public void addAll(int index, float[] data, int offset, int length) {
+        checkPositionIndex(index);
+        ensureCapacity(size + length);
+        System.arraycopy(buffer, index, buffer, index + length, size - index);
+        System.arraycopy(data, offset, buffer, index, length);
+        size += length;
+    }
+
+    public void addAll(FloatList list) {
+        addAll(list.buffer, 0, list.size);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void remove(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(buffer, index + 1, buffer, index, moved);
+        }
+        size -= 1;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive)
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", to: " + toIndex + ", size: " + size);
+        }
+        System.arraycopy(buffer, toIndex, buffer, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    public float get(int index) {
+        return buffer[index];
+    }
+
+    public void set(int index, float data) {
+        buffer[index] = data;
+    }
+
+    /**
+     * Sorts the values ascending. Large lists are sorted with {@link RadixSortFloat#sortLsd(float[], int, int, float[])}, small ones with {@link Arrays#sort(float[], int, int)}.
+     */
+    public void sort() {
+        if (size >= RADIX_SORT_THRESHOLD) {
+            RadixSortFloat.sortLsd(buffer, 0, size, new float[size]);
+        } else {
+            Arrays.sort(buffer, 0, size);
+        }
+    }
+
+    /**
+     * The list has to be sorted, see {@link Arrays#binarySearch(float[], float)}
+     *
+     * @return the index of the key or (-(insertion point) - 1)
+     */
+    public int binarySearch(float key) {
+        return Arrays.binarySearch(buffer, 0, size, key);
+    }
+
+    public float[] toArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Stream over the current values widened to double (there is no FloatStream), the list must not be modified while the stream is consumed
+     */
+    public DoubleStream stream() {
+        return IntStream.range(0, size).mapToDouble(i -> buffer[i]);
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+}
@@ -0,0 +1,227 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Comparator;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.collections4.iterators.ArrayListIterator;
+
+/**
+ * {@link UnOrderedArrayList} whose elements know their own position. Each element carries a slot index (via {@link IndexAccessor}) which is updated whenever the element is moved, so {@link #contains(Object)}, {@link #indexOf(Object)} and {@link #remove(Object)} are O(1) instead of a linear scan.
+ *
+ * Restrictions: an element can only be in one indexed list at a time (it has only one slot index), an element is contained at most once and null is not permitted. Elements removed from the list get the index -1.
+ *
+ * @param <T>
+ */
+@SuppressWarnings("unchecked")
+public class IndexedUnOrderedArrayList<T> extends UnOrderedArrayList<T> {
+    public static final int NO_INDEX = -1;
+
+    private final IndexAccessor<? super T> indexAccessor;
+
+    public IndexedUnOrderedArrayList(IndexAccessor<? super T> indexAccessor) {
+        this.indexAccessor = Objects.requireNonNull(indexAccessor);
+    }
+
+    public IndexedUnOrderedArrayList(int initialSize, IndexAccessor<? super T> indexAccessor) {
+        super(initialSize);
+        this.indexAccessor = Objects.requireNonNull(indexAccessor);
+    }
+
+    /**
+     * @return a list for elements which store their index themselves
+     */
+    public static <T extends Indexed> IndexedUnOrderedArrayList<T> create() {
+        return new IndexedUnOrderedArrayList<>(Indexed.ACCESSOR);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * @return false if the element is already contained
+     * @throws NullPointerException
+     *             if the element is null
+     */
+    @Override
+    public boolean add(T e) {
+        Objects.requireNonNull(e);
+        if (contains(e)) {
+            return false;
+        }
+        super.add(e);
+        indexAccessor.setIndex(e, size() - 1);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index >= 0) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public T remove(int index) {
+        T old = super.remove(index);
+        indexAccessor.setIndex(old, NO_INDEX);
+        if (index < size()) {
+            indexAccessor.setIndex(get(index), index);
+        }
+        return old;
+    }
+
+    /**
+     * @throws NullPointerException
+     *             if the element is null
+     * @throws IllegalArgumentException
+     *             if the element is already contained at another index
+     */
+    @Override
+    public T set(int index, T element) {
+        Objects.requireNonNull(element);
+        int current = indexOf(element);
+        if (current >= 0 && current != index) {
+            throw new IllegalArgumentException("Element is already contained at index " + current);
+        }
+        T old = super.set(index, element);
+        indexAccessor.setIndex(old, NO_INDEX);
+        indexAccessor.setIndex(element, index);
+        return old;
+    }
+
+    /**
+     * Replaces the elements one by one with {@link #set(int, Object)}, so a replacement must not be contained at another index at that moment.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        for (int i = 0, end = size(); i < end; ++i) {
+            set(i, operator.apply(get(i)));
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean changed;
+        try {
+            changed = super.removeIf(t -> {
+                if (filter.test(t)) {
+                    indexAccessor.setIndex(t, NO_INDEX);
+                    return true;
+                }
+                return false;
+            });
+        } catch (RuntimeException | Error e) {
+            // the list is unchanged, restore the indices of the elements which were already matched
+            reindex();
+            throw e;
+        }
+        if (changed) {
+            reindex();
+        }
+        return changed;
+    }
+
+    @Override
+    public void removeIndices(int[] sortedIndices) {
+        for (int index : sortedIndices) {
+            indexAccessor.setIndex(get(index), NO_INDEX);
+        }
+        super.removeIndices(sortedIndices);
+        reindex();
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0, end = size(); i < end; ++i) {
+            indexAccessor.setIndex(get(i), NO_INDEX);
+        }
+        super.clear();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * The iterator does not support {@link ListIterator#set(Object)}, it would bypass the slot indices.
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return new ArrayListIterator<T>(getBuffer(), index, size()) {
+            @Override
+            public void set(Object o) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o == null) {
+            return -1;
+        }
+        int index = indexAccessor.getIndex((T) o);
+        return index >= 0 && index < size() && get(index) == o ? index : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public void sort(Comparator<? super T> c) {
+        super.sort(c);
+        reindex();
+    }
+
+    private void reindex() {
+        for (int i = 0, end = size(); i < end; ++i) {
+            indexAccessor.setIndex(get(i), i);
+        }
+    }
+
+    /**
+     * Stores the slot index of an element, e.g. in a field of the element or in an external array.
+     */
+    public interface IndexAccessor<T> {
+        /**
+         * @return the index set by {@link #setIndex(Object, int)} or any negative value if it has never been set
+         */
+        int getIndex(T object);
+
+        void setIndex(T object, int index);
+    }
+
+    /**
+     * Element which stores its slot index itself. A new element should return {@link IndexedUnOrderedArrayList#NO_INDEX}.
+     */
+    public interface Indexed {
+        IndexAccessor<Indexed> ACCESSOR = new IndexAccessor<Indexed>() {
+            @Override
+            public int getIndex(Indexed object) {
+                return object.getIndex();
+            }
+
+            @Override
+            public void setIndex(Indexed object, int index) {
+                object.setIndex(index);
+            }
+        };
+
+        int getIndex();
+
+        void setIndex(int index);
+    }
+
+}
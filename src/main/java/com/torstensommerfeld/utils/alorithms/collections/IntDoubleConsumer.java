@@ -0,0 +1,6 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+@FunctionalInterface
+public interface IntDoubleConsumer {
+    void accept(int key, double value);
+}
@@ -28,6 +28,7 @@ package com.torstensommerfeld.utils.alorithms.collections;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
@@ -39,9 +40,14 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 
 import com.torstensommerfeld.utils.exceptions.NotSupportedException;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
 /**
  * This is a copy of java.util.hashmap but simplified to use int as key to avoid excessive integer autoboxing.
  * 
@@ -130,6 +136,13 @@ public class IntHashMap<V> {
         return (n < 0) ? 1 : (n >= MAXIMUM_CAPACITY) ? MAXIMUM_CAPACITY : n + 1;
     }
 
+    /**
+     * Spreads the key with the configured mixer, the bucket index is given by the lower bits of the result.
+     */
+    final int hash(int key) {
+        return mixer.mix(key);
+    }
+
     /* ---------------- Fields -------------- */
 
     transient Node<V>[] table;
@@ -144,19 +157,25 @@ public class IntHashMap<V> {
 
     final float loadFactor;
 
+    final IntKeyMixer mixer;
+
     /* ---------------- Public operations -------------- */
 
     /**
-     * Constructs an empty <tt>HashMap</tt> with the specified initial capacity and load factor.
+     * Constructs an empty <tt>HashMap</tt> with the specified initial capacity, load factor and key mixer.
      *
      * @param initialCapacity
      *            the initial capacity
      * @param loadFactor
      *            the load factor
+     * @param mixer
+     *            spreads the keys before the bucket is selected
      * @throws IllegalArgumentException
      *             if the initial capacity is negative or the load factor is nonpositive
+     * @throws NullPointerException
+     *             if the mixer is null
      */
-    public IntHashMap(int initialCapacity, float loadFactor) {
+    public IntHashMap(int initialCapacity, float loadFactor, IntKeyMixer mixer) {
         if (initialCapacity < 0)
             throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
         if (initialCapacity > MAXIMUM_CAPACITY)
@@ -164,9 +183,24 @@ public class IntHashMap<V> {
         if (loadFactor <= 0 || Float.isNaN(loadFactor))
             throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
         this.loadFactor = loadFactor;
+        this.mixer = Objects.requireNonNull(mixer);
         this.threshold = tableSizeFor(initialCapacity);
     }
 
+    /**
+     * Constructs an empty <tt>HashMap</tt> with the specified initial capacity and load factor. The keys are used as they are to select the bucket.
+     *
+     * @param initialCapacity
+     *            the initial capacity
+     * @param loadFactor
+     *            the load factor
+     * @throws IllegalArgumentException
+     *             if the initial capacity is negative or the load factor is nonpositive
+     */
+    public IntHashMap(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, IntKeyMixer.IDENTITY);
+    }
+
     /**
      * Constructs an empty <tt>HashMap</tt> with the specified initial capacity and the default load factor (0.75).
      *
@@ -184,10 +218,21 @@ public class IntHashMap<V> {
      */
     public IntHashMap() {
         this.loadFactor = DEFAULT_LOAD_FACTOR; // all other fields defaulted
+        this.mixer = IntKeyMixer.IDENTITY;
     }
 
     /**
-     * Constructs a new <tt>HashMap</tt> with the same mappings as the specified <tt>Map</tt>. The <tt>HashMap</tt> is created with default load factor (0.75) and an initial capacity sufficient to hold the mappings in the specified <tt>Map</tt>.
+     * Constructs an empty <tt>HashMap</tt> with the default initial capacity (16), the default load factor (0.75) and the specified key mixer.
+     *
+     * @param mixer
+     *            spreads the keys before the bucket is selected
+     */
+    public IntHashMap(IntKeyMixer mixer) {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, mixer);
+    }
+
+    /**
+     * Constructs a new <tt>HashMap</tt> with the same mappings as the specified <tt>Map</tt>. The <tt>HashMap</tt> is created with default load factor (0.75), the key mixer of the specified <tt>Map</tt> and an initial capacity sufficient to hold the mappings in the specified <tt>Map</tt>.
      *
      * @param m
      *            the map whose mappings are to be placed in this map
@@ -196,6 +241,7 @@ public class IntHashMap<V> {
      */
     public IntHashMap(IntHashMap<? extends V> m) {
         this.loadFactor = DEFAULT_LOAD_FACTOR;
+        this.mixer = m.mixer;
         putMapEntries(m, false);
     }
 
@@ -261,7 +307,7 @@ public class IntHashMap<V> {
         Node<V>[] tab;
         Node<V> first, e;
         int n;
-        if ((tab = table) != null && (n = tab.length) > 0 && (first = tab[(n - 1) & key]) != null) {
+        if ((tab = table) != null && (n = tab.length) > 0 && (first = tab[(n - 1) & hash(key)]) != null) {
             if (first.key == key)
                 return first;
             if ((e = first.next) != null) {
@@ -319,7 +365,7 @@ public class IntHashMap<V> {
         int n, i;
         if ((tab = table) == null || (n = tab.length) == 0)
             n = (tab = resize()).length;
-        if ((p = tab[i = (n - 1) & key]) == null)
+        if ((p = tab[i = (n - 1) & hash(key)]) == null)
             tab[i] = newNode(key, value, null);
         else {
             Node<V> e;
@@ -387,14 +433,14 @@ public class IntHashMap<V> {
                 if ((e = oldTab[j]) != null) {
                     oldTab[j] = null;
                     if (e.next == null)
-                        newTab[e.key & (newCap - 1)] = e;
+                        newTab[hash(e.key) & (newCap - 1)] = e;
                     else { // preserve order
                         Node<V> loHead = null, loTail = null;
                         Node<V> hiHead = null, hiTail = null;
                         Node<V> next;
                         do {
                             next = e.next;
-                            if ((e.key & oldCap) == 0) {
+                            if ((hash(e.key) & oldCap) == 0) {
                                 if (loTail == null)
                                     loHead = e;
                                 else
@@ -435,6 +481,141 @@ public class IntHashMap<V> {
         putMapEntries(m, true);
     }
 
+    /* ------------------------------------------------------------ */
+    // Bulk operations
+
+    /**
+     * Puts keys[i] -> values[i] for all keys. The table is resized at most once upfront (assuming all keys are new).
+     *
+     * @throws IllegalArgumentException
+     *             if there are less values than keys
+     */
+    public void putAll(int[] keys, V[] values) {
+        if (values.length < keys.length)
+            throw new IllegalArgumentException("Less values than keys: " + values.length + " < " + keys.length);
+        reserve(keys.length);
+        for (int i = 0, end = keys.length; i < end; ++i) {
+            putVal(keys[i], values[i], false, true);
+        }
+    }
+
+    // number of keys whose bucket heads are read before their chains are walked in getAll and containsAll
+    static final int BATCH_SIZE = 16;
+
+    /**
+     * Looks up all keys, out[i] is set to the value of keys[i] (or null). The keys are processed in small batches: the bucket head references of a batch are read from the table before any chain is walked. Only these table reads are grouped, the nodes and their keys are still loaded chain by chain.
+     *
+     * @throws IllegalArgumentException
+     *             if out is shorter than keys
+     */
+    public void getAll(int[] keys, V[] out) {
+        if (out.length < keys.length)
+            throw new IllegalArgumentException("Output array too short: " + out.length + " < " + keys.length);
+        Node<V>[] tab = table;
+        if (tab == null || size == 0) {
+            Arrays.fill(out, 0, keys.length, null);
+            return;
+        }
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        Node<V>[] heads = (Node<V>[]) new Node[BATCH_SIZE];
+        int mask = tab.length - 1;
+        for (int start = 0, end = keys.length; start < end; start += BATCH_SIZE) {
+            int batchEnd = Math.min(end, start + BATCH_SIZE);
+            for (int i = start; i < batchEnd; ++i) {
+                heads[i - start] = tab[hash(keys[i]) & mask];
+            }
+            for (int i = start; i < batchEnd; ++i) {
+                int key = keys[i];
+                Node<V> e = heads[i - start];
+                while (e != null && e.key != key)
+                    e = e.next;
+                out[i] = e == null ? null : e.value;
+            }
+        }
+    }
+
+    /**
+     * Checks all keys, out[i] is set to true if there is a mapping for keys[i]. Batched like {@link #getAll(int[], Object[])}.
+     *
+     * @return true if there is a mapping for every key
+     * @throws IllegalArgumentException
+     *             if out is shorter than keys
+     */
+    public boolean containsAll(int[] keys, boolean[] out) {
+        if (out.length < keys.length)
+            throw new IllegalArgumentException("Output array too short: " + out.length + " < " + keys.length);
+        Node<V>[] tab = table;
+        if (tab == null || size == 0) {
+            Arrays.fill(out, 0, keys.length, false);
+            return keys.length == 0;
+        }
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        Node<V>[] heads = (Node<V>[]) new Node[BATCH_SIZE];
+        int mask = tab.length - 1;
+        boolean all = true;
+        for (int start = 0, end = keys.length; start < end; start += BATCH_SIZE) {
+            int batchEnd = Math.min(end, start + BATCH_SIZE);
+            for (int i = start; i < batchEnd; ++i) {
+                heads[i - start] = tab[hash(keys[i]) & mask];
+            }
+            for (int i = start; i < batchEnd; ++i) {
+                int key = keys[i];
+                Node<V> e = heads[i - start];
+                while (e != null && e.key != key)
+                    e = e.next;
+                all &= out[i] = e != null;
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Removes the mappings of all keys.
+     *
+     * @return the number of removed mappings
+     */
+    public int removeAll(int[] keys) {
+        int removed = 0;
+        if (size > 0) {
+            for (int i = 0, end = keys.length; i < end; ++i) {
+                if (removeNode(keys[i], null, false, true) != null)
+                    ++removed;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Resizes the table once so that the given number of additional mappings fit without further resizing.
+     */
+    final void reserve(int additional) {
+        long s = (long) size + additional;
+        Node<V>[] oldTab = table;
+        if (oldTab != null && s <= threshold)
+            return;
+        float ft = ((float) s / loadFactor) + 1.0F;
+        int t = tableSizeFor((ft < (float) MAXIMUM_CAPACITY) ? (int) ft : MAXIMUM_CAPACITY);
+        if (oldTab == null) { // pre-size
+            if (t > threshold)
+                threshold = tableSizeFor(t);
+        } else if (t > oldTab.length) {
+            // allocate the target size directly instead of doubling several times
+            table = null;
+            threshold = t;
+            Node<V>[] newTab = resize();
+            int newMask = newTab.length - 1;
+            for (int j = 0; j < oldTab.length; ++j) {
+                Node<V> e = oldTab[j], next;
+                for (; e != null; e = next) {
+                    next = e.next;
+                    int index = hash(e.key) & newMask;
+                    e.next = newTab[index];
+                    newTab[index] = e;
+                }
+            }
+        }
+    }
+
     public V remove(int key) {
         Node<V> e;
         return (e = removeNode(key, null, false, true)) == null ? null : e.value;
@@ -444,7 +625,7 @@ public class IntHashMap<V> {
         Node<V>[] tab;
         Node<V> p;
         int n, index;
-        if ((tab = table) != null && (n = tab.length) > 0 && (p = tab[index = (n - 1) & key]) != null) {
+        if ((tab = table) != null && (n = tab.length) > 0 && (p = tab[index = (n - 1) & hash(key)]) != null) {
             Node<V> node = null, e;
             V v;
             if (p.key == key)
@@ -802,7 +983,7 @@ public class IntHashMap<V> {
         Node<V> old = null;
         if (size > threshold || (tab = table) == null || (n = tab.length) == 0)
             n = (tab = resize()).length;
-        if ((first = tab[i = (n - 1) & key]) != null) {
+        if ((first = tab[i = (n - 1) & hash(key)]) != null) {
             Node<V> e = first;
             do {
                 if (e.key == key) {
@@ -859,7 +1040,7 @@ public class IntHashMap<V> {
         Node<V> old = null;
         if (size > threshold || (tab = table) == null || (n = tab.length) == 0)
             n = (tab = resize()).length;
-        if ((first = tab[i = (n - 1) & key]) != null) {
+        if ((first = tab[i = (n - 1) & hash(key)]) != null) {
             Node<V> e = first;
             do {
                 if (e.key == key) {
@@ -896,7 +1077,7 @@ public class IntHashMap<V> {
         Node<V> old = null;
         if (size > threshold || (tab = table) == null || (n = tab.length) == 0)
             n = (tab = resize()).length;
-        if ((first = tab[i = (n - 1) & key]) != null) {
+        if ((first = tab[i = (n - 1) & hash(key)]) != null) {
             Node<V> e = first;
             do {
                 if (e.key == key) {
@@ -942,6 +1123,42 @@ public class IntHashMap<V> {
         }
     }
 
+    /**
+     * Performs the action for each key without boxing it.
+     */
+    public void forEachKey(IntConsumer action) {
+        Node<V>[] tab;
+        if (action == null)
+            throw new NullPointerException();
+        if (size > 0 && (tab = table) != null) {
+            int mc = modCount;
+            for (int i = 0; i < tab.length; ++i) {
+                for (Node<V> e = tab[i]; e != null; e = e.next)
+                    action.accept(e.key);
+            }
+            if (modCount != mc)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the action for each mapping without boxing the key.
+     */
+    public void forEachEntry(IntObjConsumer<? super V> action) {
+        Node<V>[] tab;
+        if (action == null)
+            throw new NullPointerException();
+        if (size > 0 && (tab = table) != null) {
+            int mc = modCount;
+            for (int i = 0; i < tab.length; ++i) {
+                for (Node<V> e = tab[i]; e != null; e = e.next)
+                    action.accept(e.key, e.value);
+            }
+            if (modCount != mc)
+                throw new ConcurrentModificationException();
+        }
+    }
+
     public void replaceAll(BiFunction<Integer, ? super V, ? extends V> function) {
         Node<V>[] tab;
         if (function == null)
@@ -958,6 +1175,68 @@ public class IntHashMap<V> {
         }
     }
 
+    /* ------------------------------------------------------------ */
+    // Statistics
+
+    /**
+     * Walks over all buckets and collects the distribution of the chain lengths. Intended to monitor the quality of the key mixer in production, the costs are O(capacity).
+     *
+     * @return the current collision statistics
+     */
+    public CollisionStatistics getCollisionStatistics() {
+        Node<V>[] tab = table;
+        int[] histogram = new int[1];
+        int usedBuckets = 0;
+        if (tab != null) {
+            for (int i = 0; i < tab.length; ++i) {
+                int length = 0;
+                for (Node<V> e = tab[i]; e != null; e = e.next)
+                    ++length;
+                if (length >= histogram.length)
+                    histogram = Arrays.copyOf(histogram, length + 1);
+                histogram[length] += 1;
+                if (length > 0)
+                    ++usedBuckets;
+            }
+        }
+        return new CollisionStatistics(capacity(), size, usedBuckets, histogram);
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class CollisionStatistics {
+        private final int capacity;
+        private final int size;
+        private final int usedBuckets;
+        /**
+         * chainLengthHistogram[n] is the number of buckets holding exactly n entries
+         */
+        private final int[] chainLengthHistogram;
+
+        public int getMaxChainLength() {
+            return chainLengthHistogram.length - 1;
+        }
+
+        /**
+         * @return the average chain length of the non empty buckets
+         */
+        public double getAverageChainLength() {
+            return usedBuckets == 0 ? 0 : (double) size / usedBuckets;
+        }
+
+        /**
+         * @return the average number of nodes visited to find a contained key
+         */
+        public double getAverageProbeLength() {
+            long probes = 0;
+            for (int length = 1; length < chainLengthHistogram.length; ++length) {
+                probes += (long) chainLengthHistogram[length] * length * (length + 1) / 2;
+            }
+            return size == 0 ? 0 : (double) probes / size;
+        }
+    }
+
     /* ------------------------------------------------------------ */
     // Cloning and serialization
 
@@ -1108,6 +1387,100 @@ public class IntHashMap<V> {
         }
     }
 
+    /**
+     * Returns a new cursor positioned before the first mapping.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Allocation free alternative to the iterators: the cursor is moved with {@link #advance()} and the current mapping is read with {@link #key()} and {@link #value()}, so neither keys nor entries are boxed. A cursor can be reused for another pass after {@link #reset()}.
+     */
+    public final class Cursor {
+        private Node<V> current;
+        private boolean removed;
+        private int index;
+        private int expectedModCount;
+
+        Cursor() {
+            reset();
+        }
+
+        /**
+         * Positions the cursor before the first mapping again.
+         */
+        public void reset() {
+            current = null;
+            removed = false;
+            index = 0;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Moves to the next mapping.
+         *
+         * @return false if there are no more mappings
+         */
+        public boolean advance() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            removed = false;
+            Node<V> e = current;
+            if (e != null && (e = e.next) != null) {
+                current = e;
+                return true;
+            }
+            Node<V>[] t = table;
+            if (t != null) {
+                while (index < t.length) {
+                    if ((e = t[index++]) != null) {
+                        current = e;
+                        return true;
+                    }
+                }
+            }
+            current = null;
+            return false;
+        }
+
+        public int key() {
+            return currentNode().key;
+        }
+
+        public V value() {
+            return currentNode().value;
+        }
+
+        public V setValue(V value) {
+            return currentNode().setValue(value);
+        }
+
+        /**
+         * Removes the current mapping, the cursor stays valid.
+         *
+         * @throws IllegalStateException
+         *             if there is no current mapping or it has already been removed
+         */
+        public void remove() {
+            Node<V> p = currentNode();
+            if (removed)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            removeNode(p.key, null, false, false);
+            removed = true;
+            expectedModCount = modCount;
+        }
+
+        private Node<V> currentNode() {
+            Node<V> e = current;
+            if (e == null)
+                throw new IllegalStateException();
+            return e;
+        }
+    }
+
     /* ------------------------------------------------------------ */
     // LinkedHashMap support
 
@@ -0,0 +1,364 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Open addressing hash set of ints, see {@link IntOpenHashMap} for the layout. Only the key array is kept, so a member costs 4 bytes divided by the load factor.
+ */
+public class IntHashSet {
+    static final int DEFAULT_INITIAL_CAPACITY = 1 << 4; // aka 16
+
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /* ---------------- Fields -------------- */
+
+    transient int[] keys;
+
+    transient int mask;
+
+    transient boolean containsZero;
+
+    transient int size;
+
+    transient int modCount;
+
+    int threshold;
+
+    final float loadFactor;
+
+    final IntKeyMixer mixer;
+
+    /* ---------------- Public operations -------------- */
+
+    /**
+     * Constructs an empty set which is able to hold the given number of elements without resizing.
+     *
+     * @param initialCapacity
+     *            the expected number of elements
+     * @param loadFactor
+     *            the load factor, has to be in the interval (0, 1)
+     * @param mixer
+     *            spreads the elements before the home slot is selected
+     * @throws IllegalArgumentException
+     *             if the initial capacity is negative or the load factor is not in the interval (0, 1)
+     * @throws NullPointerException
+     *             if the mixer is null
+     */
+    public IntHashSet(int initialCapacity, float loadFactor, IntKeyMixer mixer) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        if (loadFactor <= 0 || loadFactor >= 1 || Float.isNaN(loadFactor))
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        this.loadFactor = loadFactor;
+        this.mixer = Objects.requireNonNull(mixer);
+        allocate(IntOpenHashMap.tableSizeFor(initialCapacity, loadFactor));
+    }
+
+    public IntHashSet(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, IntKeyMixer.FIBONACCI);
+    }
+
+    public IntHashSet(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntHashSet() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int value) {
+        if (value == 0)
+            return containsZero;
+        int[] tab = keys;
+        int m = mask;
+        int pos = hash(value) & m;
+        int k;
+        while ((k = tab[pos]) != 0) {
+            if (k == value)
+                return true;
+            pos = (pos + 1) & m;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the value has not been contained before
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero)
+                return false;
+            containsZero = true;
+        } else {
+            int[] tab = keys;
+            int m = mask;
+            int pos = hash(value) & m;
+            int k;
+            while ((k = tab[pos]) != 0) {
+                if (k == value)
+                    return false;
+                pos = (pos + 1) & m;
+            }
+            if (size > threshold) // only possible if the table can not grow any more
+                throw new IllegalStateException("Maximum capacity reached: " + size);
+            tab[pos] = value;
+        }
+        ++modCount;
+        if (++size > threshold)
+            resize();
+        return true;
+    }
+
+    /**
+     * Adds all values, the table is resized at most once upfront.
+     *
+     * @return true if the set has changed
+     */
+    public boolean addAll(int[] values) {
+        reserve(values.length);
+        boolean changed = false;
+        for (int value : values) {
+            changed |= add(value);
+        }
+        return changed;
+    }
+
+    /**
+     * @return true if the set has changed
+     */
+    public boolean addAll(IntHashSet other) {
+        reserve(other.size);
+        int s = size;
+        other.forEach(this::add);
+        return s != size;
+    }
+
+    /**
+     * @return true if the value has been contained
+     */
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!containsZero)
+                return false;
+            containsZero = false;
+        } else {
+            int[] tab = keys;
+            int m = mask;
+            int pos = hash(value) & m;
+            int k;
+            while ((k = tab[pos]) != value) {
+                if (k == 0)
+                    return false;
+                pos = (pos + 1) & m;
+            }
+            shiftKeys(pos);
+        }
+        ++modCount;
+        --size;
+        return true;
+    }
+
+    /**
+     * @return true if the set has changed
+     */
+    public boolean removeAll(IntHashSet other) {
+        if (other == this) {
+            boolean changed = size > 0;
+            clear();
+            return changed;
+        }
+        int s = size;
+        other.forEach(this::remove);
+        return s != size;
+    }
+
+    public void clear() {
+        modCount++;
+        if (size > 0) {
+            size = 0;
+            containsZero = false;
+            Arrays.fill(keys, 0);
+        }
+    }
+
+    public void forEach(IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException();
+        if (size > 0) {
+            int[] tab = keys;
+            int mc = modCount;
+            for (int i = 0, n = tab.length; i < n; ++i) {
+                int k;
+                if ((k = tab[i]) != 0)
+                    action.accept(k);
+            }
+            if (containsZero)
+                action.accept(0);
+            if (modCount != mc)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * @return the elements in no particular order
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int[] tab = keys;
+        int j = 0;
+        if (containsZero)
+            result[j++] = 0;
+        for (int i = 0, n = tab.length; i < n; ++i) {
+            int k;
+            if ((k = tab[i]) != 0)
+                result[j++] = k;
+        }
+        return result;
+    }
+
+    /* ---------------- Set algebra -------------- */
+
+    /**
+     * Stores the union of this set and the other set in target (the previous content of target is removed).
+     *
+     * @return target
+     * @throws IllegalArgumentException
+     *             if target is this or the other set
+     */
+    public IntHashSet union(IntHashSet other, IntHashSet target) {
+        checkTarget(other, target);
+        target.clear();
+        target.reserve(size + other.size);
+        forEach(target::add);
+        other.forEach(target::add);
+        return target;
+    }
+
+    /**
+     * Stores the intersection of this set and the other set in target (the previous content of target is removed). The smaller set is iterated, the bigger one probed.
+     *
+     * @return target
+     * @throws IllegalArgumentException
+     *             if target is this or the other set
+     */
+    public IntHashSet intersect(IntHashSet other, IntHashSet target) {
+        checkTarget(other, target);
+        target.clear();
+        IntHashSet smaller = size <= other.size ? this : other;
+        IntHashSet bigger = smaller == this ? other : this;
+        target.reserve(smaller.size);
+        smaller.forEach(value -> {
+            if (bigger.contains(value))
+                target.add(value);
+        });
+        return target;
+    }
+
+    /**
+     * Stores all elements of this set which are not contained in the other set in target (the previous content of target is removed).
+     *
+     * @return target
+     * @throws IllegalArgumentException
+     *             if target is this or the other set
+     */
+    public IntHashSet difference(IntHashSet other, IntHashSet target) {
+        checkTarget(other, target);
+        target.clear();
+        target.reserve(size);
+        forEach(value -> {
+            if (!other.contains(value))
+                target.add(value);
+        });
+        return target;
+    }
+
+    /* ---------------- Internals -------------- */
+
+    private void checkTarget(IntHashSet other, IntHashSet target) {
+        if (target == this || target == other)
+            throw new IllegalArgumentException("The target has to be a different set");
+    }
+
+    final int hash(int value) {
+        return mixer.mix(value);
+    }
+
+    /**
+     * Closes the gap at the given slot by moving back all following elements of the cluster whose probe sequence passes the gap.
+     */
+    final void shiftKeys(int pos) {
+        int[] tab = keys;
+        int m = mask;
+        int last, slot, k;
+        for (;;) {
+            pos = ((last = pos) + 1) & m;
+            for (;;) {
+                if ((k = tab[pos]) == 0) {
+                    tab[last] = 0;
+                    return;
+                }
+                slot = hash(k) & m;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                    break;
+                pos = (pos + 1) & m;
+            }
+            tab[last] = k;
+        }
+    }
+
+    /**
+     * Resizes the table once so that the given number of additional elements fit without further resizing.
+     */
+    final void reserve(int additional) {
+        long s = (long) size + additional;
+        if (s > threshold) {
+            int cap = IntOpenHashMap.tableSizeFor((int) Math.min(Integer.MAX_VALUE, s), loadFactor);
+            if (cap > mask + 1)
+                rehash(cap);
+        }
+    }
+
+    final void resize() {
+        int oldCap = mask + 1;
+        if (oldCap < IntOpenHashMap.MAXIMUM_CAPACITY)
+            rehash(oldCap << 1);
+    }
+
+    final void rehash(int newCap) {
+        int[] oldTab = keys;
+        allocate(newCap);
+        int[] tab = keys;
+        int m = mask;
+        for (int j = 0; j < oldTab.length; ++j) {
+            int k;
+            if ((k = oldTab[j]) != 0) {
+                int pos = hash(k) & m;
+                while (tab[pos] != 0)
+                    pos = (pos + 1) & m;
+                tab[pos] = k;
+            }
+        }
+    }
+
+    private void allocate(int cap) {
+        keys = new int[cap];
+        mask = cap - 1;
+        threshold = Math.min((int) Math.ceil(cap * loadFactor), cap - 1);
+    }
+
+    final int capacity() {
+        return mask + 1;
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+@FunctionalInterface
+public interface IntIntConsumer {
+    void accept(int key, int value);
+}
@@ -0,0 +1,36 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+/**
+ * Strategy to spread int keys before the bucket is selected by masking the lower bits. Keys that only differ in their upper bits (e.g. multiples of 16 or 256, packed coordinates) would otherwise all end up in a few buckets.
+ */
+@FunctionalInterface
+public interface IntKeyMixer {
+
+    /**
+     * Uses the key as it is. Fastest option and perfect for dense sequential keys, but degrades for strided keys.
+     */
+    IntKeyMixer IDENTITY = key -> key;
+
+    /**
+     * Multiplies with the golden ratio (fibonacci hashing) and folds the upper half into the lower half.
+     */
+    IntKeyMixer FIBONACCI = key -> {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    };
+
+    /**
+     * Finalization mix of murmur3 - every input bit affects every output bit, slightly more expensive than {@link #FIBONACCI}.
+     */
+    IntKeyMixer MURMUR3 = key -> {
+        int h = key;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    };
+
+    int mix(int key);
+}
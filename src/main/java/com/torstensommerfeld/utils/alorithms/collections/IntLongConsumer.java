@@ -0,0 +1,6 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+@FunctionalInterface
+public interface IntLongConsumer {
+    void accept(int key, long value);
+}
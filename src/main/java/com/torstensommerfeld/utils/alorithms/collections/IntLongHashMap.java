@@ -0,0 +1,327 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * Open addressing hash map from int to long, see {@link IntOpenHashMap} for the layout. Neither keys nor values are boxed, so counting and histogram workloads run without any allocation once the table is sized.
+ *
+ * Methods which return a value return 0 if there is no mapping for the key; use {@link #containsKey(int)} or {@link #getOrDefault(int, long)} if 0 is a valid value.
+ */
+public class IntLongHashMap {
+    static final int DEFAULT_INITIAL_CAPACITY = 1 << 4; // aka 16
+
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /* ---------------- Fields -------------- */
+
+    // both arrays have the length capacity + 1, the last slot holds the mapping of the key 0
+    transient int[] keys;
+
+    transient long[] values;
+
+    transient int mask;
+
+    transient boolean containsZeroKey;
+
+    transient int size;
+
+    transient int modCount;
+
+    int threshold;
+
+    final float loadFactor;
+
+    final IntKeyMixer mixer;
+
+    /* ---------------- Public operations -------------- */
+
+    /**
+     * Constructs an empty map which is able to hold the given number of mappings without resizing.
+     *
+     * @param initialCapacity
+     *            the expected number of mappings
+     * @param loadFactor
+     *            the load factor, has to be in the interval (0, 1)
+     * @param mixer
+     *            spreads the keys before the home slot is selected
+     * @throws IllegalArgumentException
+     *             if the initial capacity is negative or the load factor is not in the interval (0, 1)
+     * @throws NullPointerException
+     *             if the mixer is null
+     */
+    public IntLongHashMap(int initialCapacity, float loadFactor, IntKeyMixer mixer) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        if (loadFactor <= 0 || loadFactor >= 1 || Float.isNaN(loadFactor))
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        this.loadFactor = loadFactor;
+        this.mixer = Objects.requireNonNull(mixer);
+        allocate(IntOpenHashMap.tableSizeFor(initialCapacity, loadFactor));
+    }
+
+    public IntLongHashMap(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, IntKeyMixer.FIBONACCI);
+    }
+
+    public IntLongHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntLongHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the value of the key or 0 if there is no mapping for the key
+     */
+    public long get(int key) {
+        int pos = find(key);
+        return pos < 0 ? 0 : values[pos];
+    }
+
+    public long getOrDefault(int key, long defaultValue) {
+        int pos = find(key);
+        return pos < 0 ? defaultValue : values[pos];
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    public boolean containsValue(long value) {
+        int[] tab = keys;
+        long[] vals = values;
+        int n = mask + 1;
+        for (int i = 0; i < n; ++i) {
+            if (tab[i] != 0 && vals[i] == value)
+                return true;
+        }
+        return containsZeroKey && vals[n] == value;
+    }
+
+    /**
+     * @return the previous value of the key or 0 if there was no mapping for the key
+     */
+    public long put(int key, long value) {
+        int pos = slot(key);
+        if (pos >= 0) {
+            long oldValue = values[pos];
+            values[pos] = value;
+            return oldValue;
+        }
+        insertAt(-pos - 1, key, value);
+        return 0;
+    }
+
+    /**
+     * @return the current value of the key or 0 if there was no mapping for the key (and the value has been put)
+     */
+    public long putIfAbsent(int key, long value) {
+        int pos = slot(key);
+        if (pos >= 0)
+            return values[pos];
+        insertAt(-pos - 1, key, value);
+        return 0;
+    }
+
+    /**
+     * Adds the increment to the value of the key, a missing mapping is treated as 0.
+     *
+     * @return the new value of the key
+     */
+    public long addTo(int key, long increment) {
+        int pos = slot(key);
+        if (pos >= 0)
+            return values[pos] += increment;
+        insertAt(-pos - 1, key, increment);
+        return increment;
+    }
+
+    /**
+     * Adds 1 to the value of the key, a missing mapping is treated as 0.
+     *
+     * @return the new value of the key
+     */
+    public long increment(int key) {
+        return addTo(key, 1);
+    }
+
+    /**
+     * @return the previous value of the key or 0 if there was no mapping for the key
+     */
+    public long remove(int key) {
+        int pos = find(key);
+        if (pos < 0)
+            return 0;
+        long oldValue = values[pos];
+        removeAt(pos);
+        return oldValue;
+    }
+
+    public void clear() {
+        modCount++;
+        if (size > 0) {
+            size = 0;
+            containsZeroKey = false;
+            Arrays.fill(keys, 0);
+        }
+    }
+
+    public void forEach(IntLongConsumer action) {
+        if (action == null)
+            throw new NullPointerException();
+        if (size > 0) {
+            int[] tab = keys;
+            long[] vals = values;
+            int n = mask + 1;
+            int mc = modCount;
+            for (int i = 0; i < n; ++i) {
+                int k;
+                if ((k = tab[i]) != 0)
+                    action.accept(k, vals[i]);
+            }
+            if (containsZeroKey)
+                action.accept(0, vals[n]);
+            if (modCount != mc)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /* ---------------- Internals -------------- */
+
+    final int hash(int key) {
+        return mixer.mix(key);
+    }
+
+    /**
+     * Returns the slot of the key or -1 if there is no mapping for the key.
+     */
+    final int find(int key) {
+        if (key == 0)
+            return containsZeroKey ? mask + 1 : -1;
+        int[] tab = keys;
+        int m = mask;
+        int pos = hash(key) & m;
+        int k;
+        while ((k = tab[pos]) != 0) {
+            if (k == key)
+                return pos;
+            pos = (pos + 1) & m;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slot of the key or, if there is no mapping for the key, -(slot to insert the key) - 1.
+     */
+    final int slot(int key) {
+        if (key == 0)
+            return containsZeroKey ? mask + 1 : -(mask + 1) - 1;
+        int[] tab = keys;
+        int m = mask;
+        int pos = hash(key) & m;
+        int k;
+        while ((k = tab[pos]) != 0) {
+            if (k == key)
+                return pos;
+            pos = (pos + 1) & m;
+        }
+        return -pos - 1;
+    }
+
+    final void insertAt(int pos, int key, long value) {
+        if (size > threshold) // only possible if the table can not grow any more
+            throw new IllegalStateException("Maximum capacity reached: " + size);
+        if (pos > mask)
+            containsZeroKey = true;
+        else
+            keys[pos] = key;
+        values[pos] = value;
+        ++modCount;
+        if (++size > threshold)
+            resize();
+    }
+
+    final void removeAt(int pos) {
+        if (pos > mask)
+            containsZeroKey = false;
+        else
+            shiftKeys(pos);
+        ++modCount;
+        --size;
+    }
+
+    /**
+     * Closes the gap at the given slot by moving back all following entries of the cluster whose probe sequence passes the gap.
+     */
+    final void shiftKeys(int pos) {
+        int[] tab = keys;
+        long[] vals = values;
+        int m = mask;
+        int last, slot, k;
+        for (;;) {
+            pos = ((last = pos) + 1) & m;
+            for (;;) {
+                if ((k = tab[pos]) == 0) {
+                    tab[last] = 0;
+                    return;
+                }
+                slot = hash(k) & m;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                    break;
+                pos = (pos + 1) & m;
+            }
+            tab[last] = k;
+            vals[last] = vals[pos];
+        }
+    }
+
+    final void resize() {
+        int oldCap = mask + 1;
+        if (oldCap < IntOpenHashMap.MAXIMUM_CAPACITY)
+            rehash(oldCap << 1);
+    }
+
+    final void rehash(int newCap) {
+        int[] oldTab = keys;
+        long[] oldVals = values;
+        int oldCap = mask + 1;
+        allocate(newCap);
+        int[] tab = keys;
+        long[] vals = values;
+        int m = mask;
+        vals[newCap] = oldVals[oldCap];
+        for (int j = 0; j < oldCap; ++j) {
+            int k;
+            if ((k = oldTab[j]) != 0) {
+                int pos = hash(k) & m;
+                while (tab[pos] != 0)
+                    pos = (pos + 1) & m;
+                tab[pos] = k;
+                vals[pos] = oldVals[j];
+            }
+        }
+    }
+
+    private void allocate(int cap) {
+        keys = new int[cap + 1];
+        values = new long[cap + 1];
+        mask = cap - 1;
+        threshold = Math.min((int) Math.ceil(cap * loadFactor), cap - 1);
+    }
+
+    final int capacity() {
+        return mask + 1;
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+@FunctionalInterface
+public interface IntObjConsumer<V> {
+    void accept(int key, V value);
+}
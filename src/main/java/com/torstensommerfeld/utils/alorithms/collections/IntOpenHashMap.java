@@ -0,0 +1,688 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Open addressing variant of {@link IntHashMap}. Keys and values are kept in two parallel arrays (int[] keys, Object[] values) and collisions are resolved by linear probing, so no node is allocated per entry and a lookup usually touches only one or two cache lines.
+ *
+ * The key 0 marks a free slot in the key array; a mapping for the key 0 is therefore stored in the additional last slot of the arrays. Removals use backward shifting instead of tombstones, so the probe sequences never degrade over time.
+ *
+ * The public api mirrors {@link IntHashMap} (without the boxing key/value/entry views), so both classes can be exchanged easily. Like {@link IntHashMap} this class is not thread safe.
+ *
+ * @param <V>
+ */
+@SuppressWarnings("unchecked")
+public class IntOpenHashMap<V> {
+    static final int DEFAULT_INITIAL_CAPACITY = 1 << 4; // aka 16
+
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /* ---------------- Fields -------------- */
+
+    // both arrays have the length capacity + 1, the last slot holds the mapping of the key 0
+    transient int[] keys;
+
+    transient Object[] values;
+
+    transient int mask;
+
+    transient boolean containsZeroKey;
+
+    transient int size;
+
+    transient int modCount;
+
+    int threshold;
+
+    final float loadFactor;
+
+    final IntKeyMixer mixer;
+
+    /* ---------------- Public operations -------------- */
+
+    /**
+     * Constructs an empty map which is able to hold the given number of mappings without resizing.
+     *
+     * @param initialCapacity
+     *            the expected number of mappings
+     * @param loadFactor
+     *            the load factor, has to be in the interval (0, 1)
+     * @param mixer
+     *            spreads the keys before the home slot is selected
+     * @throws IllegalArgumentException
+     *             if the initial capacity is negative or the load factor is not in the interval (0, 1)
+     * @throws NullPointerException
+     *             if the mixer is null
+     */
+    public IntOpenHashMap(int initialCapacity, float loadFactor, IntKeyMixer mixer) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        if (loadFactor <= 0 || loadFactor >= 1 || Float.isNaN(loadFactor))
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        this.loadFactor = loadFactor;
+        this.mixer = Objects.requireNonNull(mixer);
+        allocate(tableSizeFor(initialCapacity, loadFactor));
+    }
+
+    /**
+     * Constructs an empty map which is able to hold the given number of mappings without resizing. The keys are spread by {@link IntKeyMixer#FIBONACCI}, linear probing does not cope well with clustered keys.
+     *
+     * @param initialCapacity
+     *            the expected number of mappings
+     * @param loadFactor
+     *            the load factor, has to be in the interval (0, 1)
+     * @throws IllegalArgumentException
+     *             if the initial capacity is negative or the load factor is not in the interval (0, 1)
+     */
+    public IntOpenHashMap(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, IntKeyMixer.FIBONACCI);
+    }
+
+    /**
+     * Constructs an empty map which is able to hold the given number of mappings without resizing and the default load factor (0.75).
+     *
+     * @param initialCapacity
+     *            the expected number of mappings
+     * @throws IllegalArgumentException
+     *             if the initial capacity is negative.
+     */
+    public IntOpenHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty map with the default initial capacity (16) and the default load factor (0.75).
+     */
+    public IntOpenHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty map with the default initial capacity (16), the default load factor (0.75) and the specified key mixer.
+     *
+     * @param mixer
+     *            spreads the keys before the home slot is selected
+     */
+    public IntOpenHashMap(IntKeyMixer mixer) {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, mixer);
+    }
+
+    /**
+     * Constructs a new map with the same mappings and key mixer as the specified map and the default load factor (0.75).
+     *
+     * @param m
+     *            the map whose mappings are to be placed in this map
+     * @throws NullPointerException
+     *             if the specified map is null
+     */
+    public IntOpenHashMap(IntOpenHashMap<? extends V> m) {
+        this(m.size(), DEFAULT_LOAD_FACTOR, m.mixer);
+        putAll(m);
+    }
+
+    /**
+     * Returns the number of key-value mappings in this map.
+     *
+     * @return the number of key-value mappings in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns <tt>true</tt> if this map contains no key-value mappings.
+     *
+     * @return <tt>true</tt> if this map contains no key-value mappings
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public V get(int key) {
+        int pos = find(key);
+        return pos < 0 ? null : (V) values[pos];
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        int pos = find(key);
+        return pos < 0 ? defaultValue : (V) values[pos];
+    }
+
+    /**
+     * Returns <tt>true</tt> if this map contains a mapping for the specified key.
+     *
+     * @param key
+     *            The key whose presence in this map is to be tested
+     * @return <tt>true</tt> if this map contains a mapping for the specified key.
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns <tt>true</tt> if this map maps one or more keys to the specified value.
+     *
+     * @param value
+     *            value whose presence in this map is to be tested
+     * @return <tt>true</tt> if this map maps one or more keys to the specified value
+     */
+    public boolean containsValue(Object value) {
+        int[] tab = keys;
+        Object[] vals = values;
+        int n = mask + 1;
+        Object v;
+        for (int i = 0; i < n; ++i) {
+            if (tab[i] != 0 && ((v = vals[i]) == value || (value != null && value.equals(v))))
+                return true;
+        }
+        return containsZeroKey && ((v = vals[n]) == value || (value != null && value.equals(v)));
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map. If the map previously contained a mapping for the key, the old value is replaced.
+     *
+     * @param key
+     *            key with which the specified value is to be associated
+     * @param value
+     *            value to be associated with the specified key
+     * @return the previous value associated with <tt>key</tt>, or <tt>null</tt> if there was no mapping for <tt>key</tt>. (A <tt>null</tt> return can also indicate that the map previously associated <tt>null</tt> with <tt>key</tt>.)
+     */
+    public V put(int key, V value) {
+        int pos = slot(key);
+        if (pos >= 0) {
+            V oldValue = (V) values[pos];
+            values[pos] = value;
+            return oldValue;
+        }
+        insertAt(-pos - 1, key, value);
+        return null;
+    }
+
+    public V putIfAbsent(int key, V value) {
+        int pos = slot(key);
+        if (pos >= 0) {
+            V oldValue = (V) values[pos];
+            if (oldValue == null)
+                values[pos] = value;
+            return oldValue;
+        }
+        insertAt(-pos - 1, key, value);
+        return null;
+    }
+
+    /**
+     * Copies all of the mappings from the specified map to this map. These mappings will replace any mappings that this map had for any of the keys currently in the specified map.
+     *
+     * @param m
+     *            mappings to be stored in this map
+     * @throws NullPointerException
+     *             if the specified map is null
+     */
+    public void putAll(IntOpenHashMap<? extends V> m) {
+        int s = m.size();
+        if (s > threshold - size) {
+            int cap = tableSizeFor(size + s, loadFactor);
+            if (cap > mask + 1)
+                rehash(cap);
+        }
+        int[] tab = m.keys;
+        Object[] vals = m.values;
+        int n = m.mask + 1;
+        for (int i = 0; i < n; ++i) {
+            int k;
+            if ((k = tab[i]) != 0)
+                put(k, (V) vals[i]);
+        }
+        if (m.containsZeroKey)
+            put(0, (V) vals[n]);
+    }
+
+    public V remove(int key) {
+        int pos = find(key);
+        if (pos < 0)
+            return null;
+        V oldValue = (V) values[pos];
+        removeAt(pos);
+        return oldValue;
+    }
+
+    public boolean remove(int key, Object value) {
+        int pos = find(key);
+        Object v;
+        if (pos >= 0 && ((v = values[pos]) == value || (value != null && value.equals(v)))) {
+            removeAt(pos);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all of the mappings from this map. The map will be empty after this call returns. The capacity is kept.
+     */
+    public void clear() {
+        modCount++;
+        if (size > 0) {
+            size = 0;
+            containsZeroKey = false;
+            Arrays.fill(keys, 0);
+            Arrays.fill(values, null);
+        }
+    }
+
+    public boolean replace(int key, V oldValue, V newValue) {
+        int pos = find(key);
+        Object v;
+        if (pos >= 0 && ((v = values[pos]) == oldValue || (v != null && v.equals(oldValue)))) {
+            values[pos] = newValue;
+            return true;
+        }
+        return false;
+    }
+
+    public V replace(int key, V value) {
+        int pos = find(key);
+        if (pos >= 0) {
+            V oldValue = (V) values[pos];
+            values[pos] = value;
+            return oldValue;
+        }
+        return null;
+    }
+
+    public V computeIfAbsent(int key, Function<Integer, ? extends V> mappingFunction) {
+        if (mappingFunction == null)
+            throw new NullPointerException();
+        int pos = slot(key);
+        V v;
+        if (pos >= 0 && (v = (V) values[pos]) != null)
+            return v;
+        int mc = modCount;
+        v = mappingFunction.apply(key);
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+        if (v == null)
+            return null;
+        if (pos >= 0)
+            values[pos] = v;
+        else
+            insertAt(-pos - 1, key, v);
+        return v;
+    }
+
+    public V computeIfPresent(int key, BiFunction<Integer, ? super V, ? extends V> remappingFunction) {
+        if (remappingFunction == null)
+            throw new NullPointerException();
+        int pos = find(key);
+        V oldValue;
+        if (pos >= 0 && (oldValue = (V) values[pos]) != null) {
+            int mc = modCount;
+            V v = remappingFunction.apply(key, oldValue);
+            if (mc != modCount)
+                throw new ConcurrentModificationException();
+            if (v != null) {
+                values[pos] = v;
+                return v;
+            } else
+                removeAt(pos);
+        }
+        return null;
+    }
+
+    public V compute(int key, BiFunction<Integer, ? super V, ? extends V> remappingFunction) {
+        if (remappingFunction == null)
+            throw new NullPointerException();
+        int pos = slot(key);
+        V oldValue = pos >= 0 ? (V) values[pos] : null;
+        int mc = modCount;
+        V v = remappingFunction.apply(key, oldValue);
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+        if (pos >= 0) {
+            if (v != null)
+                values[pos] = v;
+            else
+                removeAt(pos);
+        } else if (v != null)
+            insertAt(-pos - 1, key, v);
+        return v;
+    }
+
+    public V merge(int key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null)
+            throw new NullPointerException();
+        if (remappingFunction == null)
+            throw new NullPointerException();
+        int pos = slot(key);
+        if (pos >= 0) {
+            V oldValue = (V) values[pos];
+            V v;
+            if (oldValue != null) {
+                int mc = modCount;
+                v = remappingFunction.apply(oldValue, value);
+                if (mc != modCount)
+                    throw new ConcurrentModificationException();
+            } else
+                v = value;
+            if (v != null)
+                values[pos] = v;
+            else
+                removeAt(pos);
+            return v;
+        }
+        insertAt(-pos - 1, key, value);
+        return value;
+    }
+
+    public void forEach(BiConsumer<Integer, ? super V> action) {
+        if (action == null)
+            throw new NullPointerException();
+        if (size > 0) {
+            int[] tab = keys;
+            Object[] vals = values;
+            int n = mask + 1;
+            int mc = modCount;
+            for (int i = 0; i < n; ++i) {
+                int k;
+                if ((k = tab[i]) != 0)
+                    action.accept(k, (V) vals[i]);
+            }
+            if (containsZeroKey)
+                action.accept(0, (V) vals[n]);
+            if (modCount != mc)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the action for each key without boxing it.
+     */
+    public void forEachKey(IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException();
+        if (size > 0) {
+            int[] tab = keys;
+            int n = mask + 1;
+            int mc = modCount;
+            for (int i = 0; i < n; ++i) {
+                int k;
+                if ((k = tab[i]) != 0)
+                    action.accept(k);
+            }
+            if (containsZeroKey)
+                action.accept(0);
+            if (modCount != mc)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the action for each mapping without boxing the key.
+     */
+    public void forEachEntry(IntObjConsumer<? super V> action) {
+        if (action == null)
+            throw new NullPointerException();
+        if (size > 0) {
+            int[] tab = keys;
+            Object[] vals = values;
+            int n = mask + 1;
+            int mc = modCount;
+            for (int i = 0; i < n; ++i) {
+                int k;
+                if ((k = tab[i]) != 0)
+                    action.accept(k, (V) vals[i]);
+            }
+            if (containsZeroKey)
+                action.accept(0, (V) vals[n]);
+            if (modCount != mc)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a new cursor positioned before the first mapping.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Allocation free iteration: the cursor is moved with {@link #advance()} and the current mapping is read with {@link #key()} and {@link #value()}. A cursor can be reused for another pass after {@link #reset()}. Removals are not supported while iterating, backward shifting would move not yet visited entries behind the cursor.
+     */
+    public final class Cursor {
+        private int pos;
+        private int expectedModCount;
+
+        Cursor() {
+            reset();
+        }
+
+        /**
+         * Positions the cursor before the first mapping again.
+         */
+        public void reset() {
+            pos = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Moves to the next mapping.
+         *
+         * @return false if there are no more mappings
+         */
+        public boolean advance() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            int[] tab = keys;
+            int n = mask + 1;
+            int i = pos;
+            while (++i < n) {
+                if (tab[i] != 0) {
+                    pos = i;
+                    return true;
+                }
+            }
+            if (i == n && containsZeroKey) {
+                pos = n;
+                return true;
+            }
+            pos = n + 1;
+            return false;
+        }
+
+        public int key() {
+            return pos == mask + 1 ? 0 : keys[currentPos()];
+        }
+
+        public V value() {
+            return (V) values[currentPos()];
+        }
+
+        public V setValue(V value) {
+            int p = currentPos();
+            V oldValue = (V) values[p];
+            values[p] = value;
+            return oldValue;
+        }
+
+        private int currentPos() {
+            int p = pos;
+            if (p < 0 || p > mask + 1)
+                throw new IllegalStateException();
+            return p;
+        }
+    }
+
+    public void replaceAll(BiFunction<Integer, ? super V, ? extends V> function) {
+        if (function == null)
+            throw new NullPointerException();
+        if (size > 0) {
+            int[] tab = keys;
+            Object[] vals = values;
+            int n = mask + 1;
+            int mc = modCount;
+            for (int i = 0; i < n; ++i) {
+                int k;
+                if ((k = tab[i]) != 0)
+                    vals[i] = function.apply(k, (V) vals[i]);
+            }
+            if (containsZeroKey)
+                vals[n] = function.apply(0, (V) vals[n]);
+            if (modCount != mc)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /* ---------------- Internals -------------- */
+
+    /**
+     * Spreads the key with the configured mixer, the home slot is given by the lower bits of the result.
+     */
+    final int hash(int key) {
+        return mixer.mix(key);
+    }
+
+    /**
+     * Returns the smallest power of two table size which holds the expected number of mappings without exceeding the load factor.
+     */
+    static int tableSizeFor(int expected, float loadFactor) {
+        long cap = (long) Math.ceil(expected / loadFactor);
+        if (cap >= MAXIMUM_CAPACITY)
+            return MAXIMUM_CAPACITY;
+        return Math.max(2, IntHashMap.tableSizeFor((int) cap));
+    }
+
+    /**
+     * Returns the slot of the key or -1 if there is no mapping for the key.
+     */
+    final int find(int key) {
+        if (key == 0)
+            return containsZeroKey ? mask + 1 : -1;
+        int[] tab = keys;
+        int m = mask;
+        int pos = hash(key) & m;
+        int k;
+        while ((k = tab[pos]) != 0) {
+            if (k == key)
+                return pos;
+            pos = (pos + 1) & m;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slot of the key or, if there is no mapping for the key, -(slot to insert the key) - 1.
+     */
+    final int slot(int key) {
+        if (key == 0)
+            return containsZeroKey ? mask + 1 : -(mask + 1) - 1;
+        int[] tab = keys;
+        int m = mask;
+        int pos = hash(key) & m;
+        int k;
+        while ((k = tab[pos]) != 0) {
+            if (k == key)
+                return pos;
+            pos = (pos + 1) & m;
+        }
+        return -pos - 1;
+    }
+
+    final void insertAt(int pos, int key, V value) {
+        if (size > threshold) // only possible if the table can not grow any more
+            throw new IllegalStateException("Maximum capacity reached: " + size);
+        if (pos > mask)
+            containsZeroKey = true;
+        else
+            keys[pos] = key;
+        values[pos] = value;
+        ++modCount;
+        if (++size > threshold)
+            resize();
+    }
+
+    final void removeAt(int pos) {
+        if (pos > mask) {
+            containsZeroKey = false;
+            values[pos] = null;
+        } else
+            shiftKeys(pos);
+        ++modCount;
+        --size;
+    }
+
+    /**
+     * Closes the gap at the given slot by moving back all following entries of the cluster whose probe sequence passes the gap.
+     */
+    final void shiftKeys(int pos) {
+        int[] tab = keys;
+        Object[] vals = values;
+        int m = mask;
+        int last, slot, k;
+        for (;;) {
+            pos = ((last = pos) + 1) & m;
+            for (;;) {
+                if ((k = tab[pos]) == 0) {
+                    tab[last] = 0;
+                    vals[last] = null;
+                    return;
+                }
+                slot = hash(k) & m;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                    break;
+                pos = (pos + 1) & m;
+            }
+            tab[last] = k;
+            vals[last] = vals[pos];
+        }
+    }
+
+    /**
+     * Doubles the table size. Once the maximum capacity is reached the table is kept and {@link #insertAt(int, int, Object)} refuses new keys.
+     */
+    final void resize() {
+        int oldCap = mask + 1;
+        if (oldCap < MAXIMUM_CAPACITY)
+            rehash(oldCap << 1);
+    }
+
+    final void rehash(int newCap) {
+        int[] oldTab = keys;
+        Object[] oldVals = values;
+        int oldCap = mask + 1;
+        allocate(newCap);
+        int[] tab = keys;
+        Object[] vals = values;
+        int m = mask;
+        vals[newCap] = oldVals[oldCap];
+        for (int j = 0; j < oldCap; ++j) {
+            int k;
+            if ((k = oldTab[j]) != 0) {
+                int pos = hash(k) & m;
+                while (tab[pos] != 0)
+                    pos = (pos + 1) & m;
+                tab[pos] = k;
+                vals[pos] = oldVals[j];
+            }
+        }
+    }
+
+    private void allocate(int cap) {
+        keys = new int[cap + 1];
+        values = new Object[cap + 1];
+        mask = cap - 1;
+        threshold = Math.min((int) Math.ceil(cap * loadFactor), cap - 1);
+    }
+
+    final int capacity() {
+        return mask + 1;
+    }
+
+}
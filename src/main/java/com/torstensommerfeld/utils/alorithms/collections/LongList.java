@@ -0,0 +1,161 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.stream.LongStream;
+
+import com.torstensommerfeld.utils.alorithms.sort.radix.RadixSortLong;
+
+public class LongList implements RandomAccess {
+    /**
+     * From this size on {@link #sort()} uses the radix sort
+     */
+    static final int RADIX_SORT_THRESHOLD = 1 << 16;
+
+    private long[] buffer;
+    private int size;
+
+    public LongList() {
+        this(10);
+    }
+
+    public LongList(int initialCapacity) {
+        buffer = new long[initialCapacity];
+    }
+
+    public long[] getBuffer() {
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Grows the buffer (if necessary) so that it holds at least minCapacity values
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(minCapacity, buffer.length * 2L + 1)));
+        }
+    }
+
+    public void add(long data) {
+        if (buffer.length - size == 0) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2 + 1);
+        }
+        buffer[size++] = data;
+    }
+
+    /**
+     * Inserts the value at the index, the following values are moved one position back
+     */
+    public void add(int index, long data) {
+        checkPositionIndex(index);
+        ensureCapacity(size + 1);
+        System.arraycopy(buffer, index, buffer, index + 1, size - index);
+        buffer[index] = data;
+        size += 1;
+    }
+
+    public void addAll(long[] data) {
+        addAll(data, 0, data.length);
+    }
+
+    /**
+     * Appends length values of data starting at offset
+     */
+    public void addAll(long[] data, int offset, int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(data, offset, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * Inserts length values of data starting at offset at the index, the following values are moved back
+     */
+    public void addAll(int index, long[] data, int offset, int length) {
+        checkPositionIndex(index);
+        ensureCapacity(size + length);
+        System.arraycopy(buffer, index, buffer, index + length, size - index);
+        System.arraycopy(data, offset, buffer, index, length);
+        size += length;
+    }
+
+    public void addAll(LongList list) {
+        addAll(list.buffer, 0, list.size);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void remove(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(buffer, index + 1, buffer, index, moved);
+        }
+        size -= 1;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive)
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", to: " + toIndex + ", size: " + size);
+        }
+        System.arraycopy(buffer, toIndex, buffer, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    public long get(int index) {
+        return buffer[index];
+    }
+
+    public void set(int index, long data) {
+        buffer[index] = data;
+    }
+
+    /**
+     * Sorts the values ascending. Large lists are sorted with {@link RadixSortLong#sortLsd(long[], int, int, long[])}, small ones with {@link Arrays#sort(long[], int, int)}.
+     */
+    public void sort() {
+        if (size >= RADIX_SORT_THRESHOLD) {
+            RadixSortLong.sortLsd(buffer, 0, size, new long[size]);
+        } else {
+            Arrays.sort(buffer, 0, size);
+        }
+    }
+
+    /**
+     * The list has to be sorted, see {@link Arrays#binarySearch(long[], long)}
+     *
+     * @return the index of the key or (-(insertion point) - 1)
+     */
+    public int binarySearch(long key) {
+        return Arrays.binarySearch(buffer, 0, size, key);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Stream over the current values without copying, the list must not be modified while the stream is consumed
+     */
+    public LongStream stream() {
+        return Arrays.stream(buffer, 0, size);
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Maps a range of a file into memory. A single mapped buffer is limited to 2 GB, so the range is split into windows of a fixed power of two size; positions are relative to the start of the range and primitives must not cross a window border (i.e. have to be aligned to their size).
+ */
+final class MappedFile implements AutoCloseable {
+    static final int DEFAULT_WINDOW_BITS = 30;
+
+    private MappedByteBuffer[] windows;
+    private final int windowBits;
+    private final int windowMask;
+
+    MappedFile(FileChannel channel, MapMode mode, long offset, long size) throws IOException {
+        this(channel, mode, offset, size, DEFAULT_WINDOW_BITS);
+    }
+
+    MappedFile(FileChannel channel, MapMode mode, long offset, long size, int windowBits) throws IOException {
+        this.windowBits = windowBits;
+        this.windowMask = (1 << windowBits) - 1;
+        int count = (int) ((size + windowMask) >>> windowBits);
+        windows = new MappedByteBuffer[count];
+        for (int i = 0; i < count; ++i) {
+            long start = (long) i << windowBits;
+            windows[i] = channel.map(mode, offset + start, Math.min(size - start, 1L << windowBits));
+        }
+    }
+
+    int getInt(long pos) {
+        return windows[(int) (pos >>> windowBits)].getInt((int) pos & windowMask);
+    }
+
+    long getLong(long pos) {
+        return windows[(int) (pos >>> windowBits)].getLong((int) pos & windowMask);
+    }
+
+    void putInt(long pos, int value) {
+        windows[(int) (pos >>> windowBits)].putInt((int) pos & windowMask, value);
+    }
+
+    void putLong(long pos, long value) {
+        windows[(int) (pos >>> windowBits)].putLong((int) pos & windowMask, value);
+    }
+
+    /**
+     * Returns a buffer whose remaining bytes are the given range of the file. Zero copy unless the range crosses a window border.
+     */
+    ByteBuffer slice(long pos, int length) {
+        if (length == 0) {
+            // pos may be the end of the file, one past the last window
+            return ByteBuffer.allocate(0);
+        }
+        int window = (int) (pos >>> windowBits);
+        int start = (int) pos & windowMask;
+        if (start + length <= windowMask + 1) {
+            ByteBuffer buffer = windows[window].duplicate();
+            buffer.limit(start + length).position(start);
+            return buffer.slice();
+        }
+        byte[] copy = new byte[length];
+        for (int copied = 0; copied < length; start = 0) {
+            ByteBuffer buffer = windows[window++].duplicate();
+            int chunk = Math.min(length - copied, buffer.capacity() - start);
+            buffer.position(start);
+            buffer.get(copy, copied, chunk);
+            copied += chunk;
+        }
+        return ByteBuffer.wrap(copy);
+    }
+
+    void force() {
+        for (MappedByteBuffer window : windows) {
+            window.force();
+        }
+    }
+
+    /**
+     * Unmaps the windows, the file must not be accessed afterwards.
+     */
+    @Override
+    public void close() {
+        MappedByteBuffer[] w = windows;
+        windows = null;
+        if (w != null) {
+            for (MappedByteBuffer window : w) {
+                DirectMemory.free(window);
+            }
+        }
+    }
+
+    boolean isClosed() {
+        return windows == null;
+    }
+}
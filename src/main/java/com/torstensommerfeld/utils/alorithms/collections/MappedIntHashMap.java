@@ -0,0 +1,322 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+import com.google.common.io.CountingOutputStream;
+
+/**
+ * Read only view of an {@link IntHashMap} snapshot file. The file is memory mapped and {@link #get(int)} probes the mapped hash table directly, so opening a snapshot costs the same regardless of its size - nothing is read or re-inserted upfront, the operating system pages the data in on demand.
+ *
+ * File layout (version 1, big endian):
+ *
+ * <pre>
+ * header (32 bytes): int magic, int version, int size, int reserved, long capacity, long values offset
+ * table (capacity * 16 bytes): per slot int key, int value length (-1 free slot, -2 null value), long value offset relative to the values offset
+ * values: the values encoded by the {@link ValueCodec}, one after the other
+ * </pre>
+ *
+ * The table uses linear probing with the keys spread by {@link IntKeyMixer#FIBONACCI} and a load factor of at most 0.5.
+ *
+ * @param <V>
+ */
+public class MappedIntHashMap<V> implements AutoCloseable {
+    static final int MAGIC = 0x49484D53; // IHMS
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 32;
+
+    static final int SLOT_SIZE = 16;
+
+    static final int FREE = -1;
+
+    static final int NULL_VALUE = -2;
+
+    private static final IntKeyMixer MIXER = IntKeyMixer.FIBONACCI;
+
+    /* ---------------- Fields -------------- */
+
+    private final MappedFile file;
+
+    private final ValueCodec<V> codec;
+
+    private final int size;
+
+    private final long mask;
+
+    private final long valuesOffset;
+
+    private MappedIntHashMap(MappedFile file, ValueCodec<V> codec, int size, long capacity, long valuesOffset) {
+        this.file = file;
+        this.codec = codec;
+        this.size = size;
+        this.mask = capacity - 1;
+        this.valuesOffset = valuesOffset;
+    }
+
+    /* ---------------- Snapshots -------------- */
+
+    /**
+     * Writes a snapshot of the map to the file, an existing file is overwritten.
+     *
+     * @param map
+     *            the map, must not be modified while the snapshot is written
+     * @param file
+     *            the target file
+     * @param codec
+     *            encodes the values
+     */
+    public static <V> void write(IntHashMap<V> map, Path file, ValueCodec<? super V> codec) throws IOException {
+        int size = map.size();
+        long capacity = Math.max(2, Long.highestOneBit(Math.max(1, 2L * size - 1)) << 1);
+        long valuesOffset = HEADER_SIZE + capacity * SLOT_SIZE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            try (MappedFile table = new MappedFile(channel, MapMode.READ_WRITE, HEADER_SIZE, capacity * SLOT_SIZE)) {
+                for (long pos = 0; pos < capacity; ++pos) {
+                    table.putInt(pos * SLOT_SIZE + 4, FREE);
+                }
+                channel.position(valuesOffset);
+                CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+                DataOutputStream out = new DataOutputStream(counter);
+                long mask = capacity - 1;
+                IntHashMap<V>.Cursor cursor = map.cursor();
+                while (cursor.advance()) {
+                    int key = cursor.key();
+                    V value = cursor.value();
+                    long pos = MIXER.mix(key) & 0xFFFFFFFFL & mask;
+                    while (table.getInt(pos * SLOT_SIZE + 4) != FREE) {
+                        pos = (pos + 1) & mask;
+                    }
+                    long offset = counter.getCount();
+                    int length = NULL_VALUE;
+                    if (value != null) {
+                        codec.encode(value, out);
+                        length = (int) (counter.getCount() - offset);
+                    }
+                    table.putInt(pos * SLOT_SIZE, key);
+                    table.putInt(pos * SLOT_SIZE + 4, length);
+                    table.putLong(pos * SLOT_SIZE + 8, offset);
+                }
+                out.flush();
+                table.force();
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(0).putLong(capacity).putLong(valuesOffset);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Maps the snapshot file into memory. The file must not be modified while the map is open.
+     *
+     * @param file
+     *            a file written by {@link #write(IntHashMap, Path, ValueCodec)}
+     * @param codec
+     *            decodes the values, has to match the codec used to write the file
+     * @throws IOException
+     *             if the file can not be read or is no snapshot file
+     */
+    public static <V> MappedIntHashMap<V> open(Path file, ValueCodec<V> codec) throws IOException {
+        return open(file, codec, MappedFile.DEFAULT_WINDOW_BITS);
+    }
+
+    static <V> MappedIntHashMap<V> open(Path file, ValueCodec<V> codec, int windowBits) throws IOException {
+        Objects.requireNonNull(codec);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE)
+                throw new IOException("Not a snapshot file: " + file);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // read the complete header
+            }
+            header.flip();
+            int magic = header.getInt();
+            int version = header.getInt();
+            int size = header.getInt();
+            header.getInt();
+            long capacity = header.getLong();
+            long valuesOffset = header.getLong();
+            if (magic != MAGIC)
+                throw new IOException("Not a snapshot file: " + file);
+            if (version != VERSION)
+                throw new IOException("Unsupported snapshot version " + version + ": " + file);
+            if (Long.bitCount(capacity) != 1 || valuesOffset != HEADER_SIZE + capacity * SLOT_SIZE || valuesOffset > fileSize)
+                throw new IOException("Corrupt snapshot file: " + file);
+            // the mapping stays valid after the channel has been closed
+            MappedFile mapped = new MappedFile(channel, MapMode.READ_ONLY, 0, fileSize, windowBits);
+            return new MappedIntHashMap<>(mapped, codec, size, capacity, valuesOffset);
+        }
+    }
+
+    /* ---------------- Public operations -------------- */
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the decoded value of the key or null if there is no mapping for the key
+     */
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        long slot = find(key);
+        if (slot < 0)
+            return defaultValue;
+        int length = file.getInt(slot + 4);
+        if (length == NULL_VALUE)
+            return null;
+        return codec.decode(file.slice(valuesOffset + file.getLong(slot + 8), length));
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    public void forEachKey(IntConsumer action) {
+        checkOpen();
+        Objects.requireNonNull(action);
+        for (long pos = 0; pos <= mask; ++pos) {
+            long slot = HEADER_SIZE + pos * SLOT_SIZE;
+            if (file.getInt(slot + 4) != FREE)
+                action.accept(file.getInt(slot));
+        }
+    }
+
+    /**
+     * Decodes every value and performs the action for it.
+     */
+    public void forEachEntry(IntObjConsumer<? super V> action) {
+        checkOpen();
+        Objects.requireNonNull(action);
+        for (long pos = 0; pos <= mask; ++pos) {
+            long slot = HEADER_SIZE + pos * SLOT_SIZE;
+            int length = file.getInt(slot + 4);
+            if (length != FREE)
+                action.accept(file.getInt(slot), length == NULL_VALUE ? null : codec.decode(file.slice(valuesOffset + file.getLong(slot + 8), length)));
+        }
+    }
+
+    /**
+     * Unmaps the file, the map must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        file.close();
+    }
+
+    /* ---------------- Internals -------------- */
+
+    private void checkOpen() {
+        if (file.isClosed())
+            throw new IllegalStateException("Map has been closed");
+    }
+
+    /**
+     * Returns the file position of the slot of the key or -1 if there is no mapping for the key.
+     */
+    private long find(int key) {
+        checkOpen();
+        long m = mask;
+        long pos = MIXER.mix(key) & 0xFFFFFFFFL & m;
+        for (;;) {
+            long slot = HEADER_SIZE + pos * SLOT_SIZE;
+            if (file.getInt(slot + 4) == FREE)
+                return -1;
+            if (file.getInt(slot) == key)
+                return slot;
+            pos = (pos + 1) & m;
+        }
+    }
+
+    /**
+     * Binary representation of the values of a snapshot.
+     *
+     * @param <V>
+     */
+    public interface ValueCodec<V> {
+        ValueCodec<Integer> INTEGER = new ValueCodec<Integer>() {
+            @Override
+            public void encode(Integer value, DataOutput out) throws IOException {
+                out.writeInt(value);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+
+        ValueCodec<Long> LONG = new ValueCodec<Long>() {
+            @Override
+            public void encode(Long value, DataOutput out) throws IOException {
+                out.writeLong(value);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+
+        ValueCodec<Double> DOUBLE = new ValueCodec<Double>() {
+            @Override
+            public void encode(Double value, DataOutput out) throws IOException {
+                out.writeDouble(value);
+            }
+
+            @Override
+            public Double decode(ByteBuffer buffer) {
+                return buffer.getDouble();
+            }
+        };
+
+        ValueCodec<String> STRING = new ValueCodec<String>() {
+            @Override
+            public void encode(String value, DataOutput out) throws IOException {
+                out.write(value.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer) {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+
+        /**
+         * Writes the (non null) value.
+         */
+        void encode(V value, DataOutput out) throws IOException;
+
+        /**
+         * Reads a value, the remaining bytes of the buffer are exactly the bytes written by {@link #encode(Object, DataOutput)}.
+         */
+        V decode(ByteBuffer buffer);
+    }
+
+}
@@ -0,0 +1,362 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Open addressing hash map from int to int whose table lives in direct memory, outside of the java heap. Intended for huge lookup tables (hundreds of millions of entries) which would otherwise cause long old generation pauses. The lookup semantics are the same as the ones of {@link IntIntHashMap}: methods which return a value return 0 if there is no mapping for the key.
+ *
+ * Each slot takes 8 bytes (key, value). The table is split into pages of direct buffers, so the capacity is not limited to 2 GB. A key of 0 marks a free slot, the mapping of the key 0 is kept in fields.
+ *
+ * The memory is released by {@link #close()}, the map must not be used afterwards. Size the map upfront whenever possible: growing needs the old and the new table at the same time. Not thread safe.
+ */
+public class OffHeapIntIntHashMap implements AutoCloseable {
+    static final long MAXIMUM_CAPACITY = 1L << 32;
+
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    // 2^24 slots of 8 bytes = 128 MB per page
+    static final int DEFAULT_PAGE_BITS = 24;
+
+    private static final int SLOT_SHIFT = 3;
+
+    /* ---------------- Fields -------------- */
+
+    private ByteBuffer[] pages;
+
+    private long mask;
+
+    private int pageShift;
+
+    private int pageMask;
+
+    private boolean containsZeroKey;
+
+    private int zeroValue;
+
+    private long size;
+
+    private long threshold;
+
+    private final float loadFactor;
+
+    private final IntKeyMixer mixer;
+
+    private final int maxPageBits;
+
+    /* ---------------- Public operations -------------- */
+
+    /**
+     * @param expectedSize
+     *            the number of mappings the map is able to hold without resizing
+     * @param loadFactor
+     *            the load factor, has to be in the interval (0, 1)
+     * @param mixer
+     *            spreads the keys before the home slot is selected
+     * @throws IllegalArgumentException
+     *             if the expected size is negative or too big or the load factor is not in the interval (0, 1)
+     */
+    public OffHeapIntIntHashMap(long expectedSize, float loadFactor, IntKeyMixer mixer) {
+        this(expectedSize, loadFactor, mixer, DEFAULT_PAGE_BITS);
+    }
+
+    public OffHeapIntIntHashMap(long expectedSize, float loadFactor) {
+        this(expectedSize, loadFactor, IntKeyMixer.FIBONACCI);
+    }
+
+    public OffHeapIntIntHashMap(long expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    OffHeapIntIntHashMap(long expectedSize, float loadFactor, IntKeyMixer mixer, int maxPageBits) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        if (loadFactor <= 0 || loadFactor >= 1 || Float.isNaN(loadFactor))
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        this.loadFactor = loadFactor;
+        this.mixer = Objects.requireNonNull(mixer);
+        this.maxPageBits = maxPageBits;
+        long cap = Math.max(2, Long.highestOneBit(Math.max(1, (long) Math.ceil(expectedSize / (double) loadFactor) - 1)) << 1);
+        if (cap > MAXIMUM_CAPACITY)
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        allocate(cap);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of slots of the off heap table
+     */
+    public long capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return the value of the key or 0 if there is no mapping for the key
+     */
+    public int get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        checkOpen();
+        if (key == 0)
+            return containsZeroKey ? zeroValue : defaultValue;
+        long pos = find(key);
+        return pos < 0 ? defaultValue : valueAt(pos);
+    }
+
+    public boolean containsKey(int key) {
+        checkOpen();
+        if (key == 0)
+            return containsZeroKey;
+        return find(key) >= 0;
+    }
+
+    /**
+     * @return the previous value of the key or 0 if there was no mapping for the key
+     */
+    public int put(int key, int value) {
+        checkOpen();
+        if (key == 0) {
+            int oldValue = containsZeroKey ? zeroValue : 0;
+            if (!containsZeroKey)
+                insertedOne();
+            containsZeroKey = true;
+            zeroValue = value;
+            return oldValue;
+        }
+        long pos = slot(key);
+        if (pos >= 0) {
+            int oldValue = valueAt(pos);
+            setValueAt(pos, value);
+            return oldValue;
+        }
+        setEntryAt(-pos - 1, key, value);
+        insertedOne();
+        return 0;
+    }
+
+    /**
+     * Adds the increment to the value of the key, a missing mapping is treated as 0.
+     *
+     * @return the new value of the key
+     */
+    public int addTo(int key, int increment) {
+        checkOpen();
+        if (key == 0) {
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                zeroValue = 0;
+                insertedOne();
+            }
+            return zeroValue += increment;
+        }
+        long pos = slot(key);
+        if (pos >= 0) {
+            int value = valueAt(pos) + increment;
+            setValueAt(pos, value);
+            return value;
+        }
+        setEntryAt(-pos - 1, key, increment);
+        insertedOne();
+        return increment;
+    }
+
+    /**
+     * @return the previous value of the key or 0 if there was no mapping for the key
+     */
+    public int remove(int key) {
+        checkOpen();
+        if (key == 0) {
+            if (!containsZeroKey)
+                return 0;
+            containsZeroKey = false;
+            --size;
+            return zeroValue;
+        }
+        long pos = find(key);
+        if (pos < 0)
+            return 0;
+        int oldValue = valueAt(pos);
+        shiftKeys(pos);
+        --size;
+        return oldValue;
+    }
+
+    /**
+     * Removes all mappings, the capacity is kept.
+     */
+    public void clear() {
+        checkOpen();
+        if (size > 0) {
+            for (ByteBuffer page : pages) {
+                for (int i = 0, end = page.capacity(); i < end; i += 8) {
+                    page.putLong(i, 0);
+                }
+            }
+            containsZeroKey = false;
+            size = 0;
+        }
+    }
+
+    public void forEach(IntIntConsumer action) {
+        checkOpen();
+        Objects.requireNonNull(action);
+        for (ByteBuffer page : pages) {
+            for (int i = 0, end = page.capacity(); i < end; i += 8) {
+                int k = page.getInt(i);
+                if (k != 0)
+                    action.accept(k, page.getInt(i + 4));
+            }
+        }
+        if (containsZeroKey)
+            action.accept(0, zeroValue);
+    }
+
+    /**
+     * Releases the off heap memory. The map must not be used afterwards, calling close again has no effect.
+     */
+    @Override
+    public void close() {
+        ByteBuffer[] p = pages;
+        pages = null;
+        if (p != null) {
+            for (ByteBuffer page : p) {
+                DirectMemory.free(page);
+            }
+        }
+    }
+
+    /* ---------------- Internals -------------- */
+
+    private void checkOpen() {
+        if (pages == null)
+            throw new IllegalStateException("Map has been closed");
+    }
+
+    private long home(int key) {
+        return (mixer.mix(key) & 0xFFFFFFFFL) & mask;
+    }
+
+    private long find(int key) {
+        long m = mask;
+        long pos = home(key);
+        int k;
+        while ((k = keyAt(pos)) != 0) {
+            if (k == key)
+                return pos;
+            pos = (pos + 1) & m;
+        }
+        return -1;
+    }
+
+    private long slot(int key) {
+        long m = mask;
+        long pos = home(key);
+        int k;
+        while ((k = keyAt(pos)) != 0) {
+            if (k == key)
+                return pos;
+            pos = (pos + 1) & m;
+        }
+        return -pos - 1;
+    }
+
+    private void insertedOne() {
+        if (++size > threshold)
+            resize();
+    }
+
+    private void shiftKeys(long pos) {
+        long m = mask;
+        long last, slot;
+        int k;
+        for (;;) {
+            pos = ((last = pos) + 1) & m;
+            for (;;) {
+                if ((k = keyAt(pos)) == 0) {
+                    setEntryAt(last, 0, 0);
+                    return;
+                }
+                slot = home(k);
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                    break;
+                pos = (pos + 1) & m;
+            }
+            setEntryAt(last, k, valueAt(pos));
+        }
+    }
+
+    private void resize() {
+        long oldCap = mask + 1;
+        if (oldCap >= MAXIMUM_CAPACITY) {
+            // 2^32 slots hold all non zero int keys, the table can not run full
+            threshold = Long.MAX_VALUE;
+            return;
+        }
+        ByteBuffer[] oldPages = pages;
+        allocate(oldCap << 1);
+        long m = mask;
+        for (ByteBuffer page : oldPages) {
+            for (int i = 0, end = page.capacity(); i < end; i += 8) {
+                int k = page.getInt(i);
+                if (k != 0) {
+                    long pos = home(k);
+                    while (keyAt(pos) != 0)
+                        pos = (pos + 1) & m;
+                    setEntryAt(pos, k, page.getInt(i + 4));
+                }
+            }
+            DirectMemory.free(page);
+        }
+    }
+
+    private void allocate(long cap) {
+        int capBits = Long.numberOfTrailingZeros(cap);
+        int pageBits = Math.min(capBits, maxPageBits);
+        int pageCount = 1 << (capBits - pageBits);
+        ByteBuffer[] newPages = new ByteBuffer[pageCount];
+        try {
+            for (int i = 0; i < pageCount; ++i) {
+                newPages[i] = DirectMemory.allocate(1 << (pageBits + SLOT_SHIFT));
+            }
+        } catch (OutOfMemoryError e) {
+            for (ByteBuffer page : newPages) {
+                DirectMemory.free(page);
+            }
+            throw e;
+        }
+        pages = newPages;
+        pageShift = pageBits;
+        pageMask = (1 << pageBits) - 1;
+        mask = cap - 1;
+        threshold = Math.min((long) Math.ceil(cap * (double) loadFactor), cap - 1);
+    }
+
+    private int keyAt(long pos) {
+        return pages[(int) (pos >>> pageShift)].getInt(((int) pos & pageMask) << SLOT_SHIFT);
+    }
+
+    private int valueAt(long pos) {
+        return pages[(int) (pos >>> pageShift)].getInt((((int) pos & pageMask) << SLOT_SHIFT) + 4);
+    }
+
+    private void setValueAt(long pos, int value) {
+        pages[(int) (pos >>> pageShift)].putInt((((int) pos & pageMask) << SLOT_SHIFT) + 4, value);
+    }
+
+    private void setEntryAt(long pos, int key, int value) {
+        ByteBuffer page = pages[(int) (pos >>> pageShift)];
+        int offset = ((int) pos & pageMask) << SLOT_SHIFT;
+        page.putInt(offset, key);
+        page.putInt(offset + 4, value);
+    }
+
+}
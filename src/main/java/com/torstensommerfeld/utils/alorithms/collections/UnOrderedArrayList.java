@@ -1,19 +1,24 @@
 package com.torstensommerfeld.utils.alorithms.collections;
 
 import java.util.AbstractList;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.apache.commons.collections4.iterators.ArrayIterator;
 import org.apache.commons.collections4.iterators.ArrayListIterator;
 
 import com.google.common.base.Objects;
+import com.torstensommerfeld.utils.exceptions.NotSupportedException;
 
 import lombok.NoArgsConstructor;
 
@@ -35,6 +40,8 @@ import lombok.NoArgsConstructor;
 public class UnOrderedArrayList<T> extends AbstractList<T> implements RandomAccess {
     private static final Object[] INIT_ARRAY = new Object[0];
 
+    static final int LOOKUP_SET_THRESHOLD = 8;
+
     private Object[] objects = INIT_ARRAY;
     private int end = 0;
 
@@ -101,13 +108,62 @@ public class UnOrderedArrayList<T> extends AbstractList<T> implements RandomAcce
         return false;
     }
 
+    /**
+     * Removes all occurrences of the elements of c in a single pass. Unless c is a set, a collection with more than {@link #LOOKUP_SET_THRESHOLD} elements is copied into a hash set first.
+     */
     @Override
     public boolean removeAll(Collection<?> c) {
-        boolean changed = false;
-        for (Object o : c) {
-            changed |= remove(o);
+        Collection<?> lookup = toLookup(c);
+        return removeIf(lookup::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Collection<?> lookup = toLookup(c);
+        return removeIf(o -> !lookup.contains(o));
+    }
+
+    /**
+     * All elements are tested before the list is modified, so the list is unchanged if the filter throws. Afterwards the gaps below the new end are filled with the kept elements behind it.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Object[] o = objects;
+        int e = end;
+        BitSet removed = null;
+        for (int i = 0; i < e; ++i) {
+            if (filter.test((T) o[i])) {
+                if (removed == null) {
+                    removed = new BitSet(e);
+                }
+                removed.set(i);
+            }
+        }
+        if (removed == null) {
+            return false;
+        }
+        int newEnd = e - removed.cardinality();
+        int kept = newEnd;
+        for (int i = removed.nextSetBit(0); i >= 0 && i < newEnd; i = removed.nextSetBit(i + 1)) {
+            kept = removed.nextClearBit(kept);
+            o[i] = o[kept++];
+        }
+        return compact(newEnd);
+    }
+
+    /**
+     * Removes the elements at the given indices.
+     *
+     * @param sortedIndices
+     *            distinct indices in ascending order
+     */
+    public void removeIndices(int[] sortedIndices) {
+        int e = end;
+        // descending, so the last element never is an index which still has to be removed
+        for (int i = sortedIndices.length - 1; i >= 0; --i) {
+            objects[sortedIndices[i]] = objects[--e];
         }
-        return changed;
+        compact(e);
     }
 
     @Override
@@ -188,13 +244,43 @@ public class UnOrderedArrayList<T> extends AbstractList<T> implements RandomAcce
         return new ArrayListIterator<>(objects, index, end);
     }
 
+    /**
+     * Returns a view of the range, reads and {@link List#set(int, Object)} go to this list. The view does not support structural modifications and becomes invalid when this list is structurally modified.
+     */
     @Override
     public List<T> subList(int fromIndex, int toIndex) {
-        List<T> result = new ArrayList<>(toIndex - fromIndex);
-        for (int i = fromIndex; i < toIndex; ++i) {
-            result.add((T) objects[i]);
+        if (fromIndex < 0 || toIndex > end || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", to: " + toIndex + ", size: " + end);
         }
-        return result;
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Allocation free iteration (in contrast to {@link #iterator()})
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Object[] o = objects;
+        for (int i = 0, e = end; i < e; ++i) {
+            action.accept((T) o[i]);
+        }
+    }
+
+    /**
+     * Allocation free iteration which passes the index along with the element
+     */
+    public void forEachIndexed(IntObjConsumer<? super T> action) {
+        Object[] o = objects;
+        for (int i = 0, e = end; i < e; ++i) {
+            action.accept(i, (T) o[i]);
+        }
+    }
+
+    /**
+     * Raw access to the backing array for tight loops. Only the first {@link #size()} entries are elements; the array is replaced when the list grows, so it must not be kept across adds.
+     */
+    public Object[] getBuffer() {
+        return objects;
     }
 
     @Override
@@ -212,6 +298,22 @@ public class UnOrderedArrayList<T> extends AbstractList<T> implements RandomAcce
         return super.hashCode();
     }
 
+    private static Collection<?> toLookup(Collection<?> c) {
+        return c instanceof Set || c.size() <= LOOKUP_SET_THRESHOLD ? c : new HashSet<>(c);
+    }
+
+    /**
+     * Sets the new end and releases the references behind it
+     */
+    private boolean compact(int newEnd) {
+        if (newEnd == end) {
+            return false;
+        }
+        Arrays.fill(objects, newEnd, end, null);
+        end = newEnd;
+        return true;
+    }
+
     public T pop() {
         return remove(0);
     }
@@ -224,4 +326,63 @@ public class UnOrderedArrayList<T> extends AbstractList<T> implements RandomAcce
         return (T) objects[end - 1];
     }
 
+    private class SubList extends AbstractList<T> implements RandomAccess {
+        private final int offset;
+        private final int size;
+
+        SubList(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public T get(int index) {
+            checkIndex(index);
+            return (T) objects[offset + index];
+        }
+
+        @Override
+        public T set(int index, T element) {
+            checkIndex(index);
+            return UnOrderedArrayList.this.set(offset + index, element);
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+            }
+        }
+
+        @Override
+        public void add(int index, T element) {
+            throw new NotSupportedException();
+        }
+
+        @Override
+        public T remove(int index) {
+            throw new NotSupportedException();
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("From: " + fromIndex + ", to: " + toIndex + ", size: " + size);
+            }
+            return new SubList(offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public void forEach(Consumer<? super T> action) {
+            Object[] o = objects;
+            for (int i = offset, e = offset + size; i < e; ++i) {
+                action.accept((T) o[i]);
+            }
+        }
+    }
+
 }
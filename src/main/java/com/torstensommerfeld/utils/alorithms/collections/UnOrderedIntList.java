@@ -0,0 +1,146 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * Primitive int version of {@link UnOrderedArrayList}: insert and remove in O(1) without boxing, the position of a value may change on every removal (the removed slot is re-occupied by the last value).
+ *
+ * No boundary checks are performed to improve performance.
+ */
+@NoArgsConstructor
+public class UnOrderedIntList {
+    private static final int[] INIT_ARRAY = new int[0];
+
+    private int[] values = INIT_ARRAY;
+    private int end = 0;
+
+    public UnOrderedIntList(int initialSize) {
+        values = new int[initialSize];
+    }
+
+    public int[] getBuffer() {
+        return values;
+    }
+
+    public int size() {
+        return end;
+    }
+
+    public boolean isEmpty() {
+        return end == 0;
+    }
+
+    public void add(int value) {
+        if (end == values.length) {
+            values = Arrays.copyOf(values, values.length * 2 + 2);
+        }
+        values[end++] = value;
+    }
+
+    public void addAll(int[] data, int offset, int length) {
+        if (end + length > values.length) {
+            values = Arrays.copyOf(values, Math.max(end + length, values.length * 2 + 2));
+        }
+        System.arraycopy(data, offset, values, end, length);
+        end += length;
+    }
+
+    public int get(int index) {
+        return values[index];
+    }
+
+    public int set(int index, int value) {
+        int old = values[index];
+        values[index] = value;
+        return old;
+    }
+
+    /**
+     * Removes the value at the index, the last value takes its place
+     *
+     * @return the removed value
+     */
+    public int remove(int index) {
+        int old = values[index];
+        values[index] = values[--end];
+        return old;
+    }
+
+    /**
+     * Removes the first occurrence of the value
+     *
+     * @return true if the value has been contained
+     */
+    public boolean removeValue(int value) {
+        int index = indexOf(value);
+        if (index >= 0) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < end; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public void clear() {
+        end = 0;
+    }
+
+    public int pop() {
+        return remove(0);
+    }
+
+    public void push(int value) {
+        add(value);
+    }
+
+    public int getLast() {
+        return values[end - 1];
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < end; ++i) {
+            action.accept(values[i]);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, end);
+    }
+
+    /**
+     * Moves up to target.length values from the end of this list into target (starting at index 0) and removes them from this list, the values which do not fit stay in the list.
+     *
+     * @return the number of values moved
+     */
+    public int drainTo(int[] target) {
+        return drainTo(target, 0);
+    }
+
+    /**
+     * Moves as many values as fit into target (starting at offset) and removes them from this list. The values are taken from the end, the values which do not fit stay where they are.
+     *
+     * @return the number of values moved
+     */
+    public int drainTo(int[] target, int offset) {
+        int count = Math.min(end, target.length - offset);
+        System.arraycopy(values, end - count, target, offset, count);
+        end -= count;
+        return count;
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+public class ParallelRadixSortInt {
+    /**
+     * Below this size the sequential {@link RadixSortInt#sortLsdCounting(int[])} is used
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 17;
+
+    private static final int RADIX = 256;
+
+    /**
+     * Least significant digit, iterative, K = 32, non-negative, runs on the common fork join pool, needs a scratch array of size n
+     */
+    public static void sortLsd(int[] data) {
+        sortLsd(data, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Each of the 4 passes (8 bits each) is split in chunks which are processed in parallel: (1) every chunk counts its digits in its own histogram, (2) the histograms are turned into start offsets per chunk and digit (digit major, so the sort stays stable), (3) every chunk scatters its values to its offsets. Passes in which all values have the same digit are skipped.
+     */
+    public static void sortLsd(int[] data, ForkJoinPool pool) {
+        int n = data.length;
+        if (n < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            RadixSortInt.sortLsdCounting(data);
+            return;
+        }
+        int chunks = pool.getParallelism() * 4;
+        int chunkSize = (n + chunks - 1) / chunks;
+        chunks = (n + chunkSize - 1) / chunkSize;
+        int[][] offsets = new int[chunks][RADIX];
+        int[] src = data;
+        int[] dst = new int[n];
+        for (int shift = 0; shift < 32; shift += 8) {
+            int[] from = src;
+            int s = shift;
+            // (1) histograms
+            pool.invoke(new ChunkTask(0, chunks, chunk -> {
+                int[] count = offsets[chunk];
+                Arrays.fill(count, 0);
+                for (int i = chunk * chunkSize, end = Math.min(n, i + chunkSize); i < end; ++i) {
+                    count[(from[i] >>> s) & 255] += 1;
+                }
+            }));
+            // (2) prefix sums
+            if (!toOffsets(offsets, n)) {
+                continue;
+            }
+            // (3) scatter
+            int[] to = dst;
+            pool.invoke(new ChunkTask(0, chunks, chunk -> {
+                int[] offset = offsets[chunk];
+                for (int i = chunk * chunkSize, end = Math.min(n, i + chunkSize); i < end; ++i) {
+                    int value = from[i];
+                    to[offset[(value >>> s) & 255]++] = value;
+                }
+            }));
+            dst = src;
+            src = to;
+        }
+        if (src != data) {
+            System.arraycopy(src, 0, data, 0, n);
+        }
+    }
+
+    /**
+     * Replaces the counts by the start offsets
+     *
+     * @return false if all values have the same digit (the pass can be skipped)
+     */
+    private static boolean toOffsets(int[][] counts, int n) {
+        int pos = 0;
+        for (int digit = 0; digit < RADIX; ++digit) {
+            int digitStart = pos;
+            for (int[] count : counts) {
+                int c = count[digit];
+                count[digit] = pos;
+                pos += c;
+            }
+            if (pos - digitStart == n) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        ChunkTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ChunkTask(from, mid, action), new ChunkTask(mid, to, action));
+            }
+        }
+    }
+
+}
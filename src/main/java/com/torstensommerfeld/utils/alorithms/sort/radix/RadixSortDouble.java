@@ -0,0 +1,63 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+public class RadixSortDouble {
+
+    /**
+     * Least significant digit, iterative, K = 64, counting based with 8 passes of 8 bits on the IEEE 754 bits: the sign bit of positive values and all bits of negative values are flipped, which makes the unsigned order of the bits the numeric order. The order is the one of {@link java.util.Arrays#sort(double[])}: -0.0 before 0.0 and NaN at the end. Needs a scratch array of size n
+     */
+    public static void sortLsd(double[] data) {
+        sortLsd(data, 0, data.length, new double[data.length]);
+    }
+
+    /**
+     * Allocation free apart from the 8 KB of histograms
+     *
+     * @param scratch
+     *            an array of at least toIndex - fromIndex elements, its content is overwritten
+     */
+    public static void sortLsd(double[] data, int fromIndex, int toIndex, double[] scratch) {
+        int n = toIndex - fromIndex;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("Scratch array too small: " + scratch.length + " < " + n);
+        }
+        int[] counts = new int[8 * 256];
+        for (int i = fromIndex; i < toIndex; ++i) {
+            long key = sortableBits(data[i]);
+            for (int k = 0; k < 8; ++k) {
+                counts[(k << 8) + ((int) (key >>> (k << 3)) & 255)] += 1;
+            }
+        }
+        double[] src = data;
+        int srcOffset = fromIndex;
+        double[] dst = scratch;
+        int dstOffset = 0;
+        for (int k = 0; k < 8; ++k) {
+            int base = k << 8;
+            if (RadixSortInt.toOffsets(counts, base, n, dstOffset)) {
+                int shift = k << 3;
+                for (int i = srcOffset, end = srcOffset + n; i < end; ++i) {
+                    double value = src[i];
+                    dst[counts[base + ((int) (sortableBits(value) >>> shift) & 255)]++] = value;
+                }
+                double[] t = src;
+                src = dst;
+                dst = t;
+                int o = srcOffset;
+                srcOffset = dstOffset;
+                dstOffset = o;
+            }
+        }
+        if (src != data) {
+            System.arraycopy(src, srcOffset, data, fromIndex, n);
+        }
+    }
+
+    /**
+     * @return bits whose unsigned order is the order of {@link Double#compare(double, double)}
+     */
+    static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+}
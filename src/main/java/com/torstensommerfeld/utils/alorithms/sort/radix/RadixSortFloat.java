@@ -0,0 +1,64 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+public class RadixSortFloat {
+
+    /**
+     * Least significant digit, iterative, K = 32, counting based with 4 passes of 8 bits on the IEEE 754 bits (see {@link RadixSortDouble#sortLsd(double[])}). The order is the one of {@link java.util.Arrays#sort(float[])}. Needs a scratch array of size n
+     */
+    public static void sortLsd(float[] data) {
+        sortLsd(data, 0, data.length, new float[data.length]);
+    }
+
+    /**
+     * Allocation free apart from the 4 KB of histograms
+     *
+     * @param scratch
+     *            an array of at least toIndex - fromIndex elements, its content is overwritten
+     */
+    public static void sortLsd(float[] data, int fromIndex, int toIndex, float[] scratch) {
+        int n = toIndex - fromIndex;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("Scratch array too small: " + scratch.length + " < " + n);
+        }
+        int[] counts = new int[4 * 256];
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int key = sortableBits(data[i]);
+            counts[key & 255] += 1;
+            counts[256 + ((key >>> 8) & 255)] += 1;
+            counts[512 + ((key >>> 16) & 255)] += 1;
+            counts[768 + (key >>> 24)] += 1;
+        }
+        float[] src = data;
+        int srcOffset = fromIndex;
+        float[] dst = scratch;
+        int dstOffset = 0;
+        for (int k = 0; k < 4; ++k) {
+            int base = k << 8;
+            if (RadixSortInt.toOffsets(counts, base, n, dstOffset)) {
+                int shift = k << 3;
+                for (int i = srcOffset, end = srcOffset + n; i < end; ++i) {
+                    float value = src[i];
+                    dst[counts[base + ((sortableBits(value) >>> shift) & 255)]++] = value;
+                }
+                float[] t = src;
+                src = dst;
+                dst = t;
+                int o = srcOffset;
+                srcOffset = dstOffset;
+                dstOffset = o;
+            }
+        }
+        if (src != data) {
+            System.arraycopy(src, srcOffset, data, fromIndex, n);
+        }
+    }
+
+    /**
+     * @return bits whose unsigned order is the order of {@link Float#compare(float, float)}
+     */
+    static int sortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+    }
+
+}
@@ -1,10 +1,16 @@
 package com.torstensommerfeld.utils.alorithms.sort.radix;
 
+import java.util.Arrays;
+
 import com.torstensommerfeld.utils.alorithms.collections.IntList;
 
 import lombok.Getter;
 
 public class RadixSortInt {
+    /**
+     * Buckets of up to this size are sorted by insertion sort in {@link #sortMsdInPlace(int[])}
+     */
+    static final int INSERTION_SORT_THRESHOLD = 32;
 
     /**
      * Least significant digit, iterative, K = 32, non-negative, needs total buffer size (buckets) of size ~ n
@@ -14,23 +20,45 @@ public class RadixSortInt {
     }
 
     public static void sortLsd(int[] data, Buckets buckets) {
+        sortLsd(data, 0, data.length, buckets);
+    }
+
+    /**
+     * Sorts the range from fromIndex (inclusive) to toIndex (exclusive), non-negative
+     */
+    public static void sortLsd(int[] data, int fromIndex, int toIndex, Buckets buckets) {
+        sortLsd(data, fromIndex, toIndex, buckets, false);
+    }
+
+    /**
+     * Least significant digit, iterative, K = 32, negative values allowed (the sign bit is flipped for the most significant digit), needs total buffer size (buckets) of size ~ n
+     */
+    public static void sortLsdSigned(int[] data) {
+        sortLsd(data, 0, data.length, new Buckets(), true);
+    }
+
+    public static void sortLsdSigned(int[] data, int fromIndex, int toIndex, Buckets buckets) {
+        sortLsd(data, fromIndex, toIndex, buckets, true);
+    }
+
+    private static void sortLsd(int[] data, int fromIndex, int toIndex, Buckets buckets, boolean signed) {
         IntList[] bucketsArray = buckets.buckets;
         for (int k = 0; k < 4; ++k) {
             buckets.clear();
-            handleKey(data, bucketsArray, k);
+            handleKey(data, fromIndex, toIndex, bucketsArray, k, signed && k == 3 ? 128 : 0);
         }
     }
 
-    private static void handleKey(int[] data, IntList[] bucketsArray, int k) {
+    private static void handleKey(int[] data, int fromIndex, int toIndex, IntList[] bucketsArray, int k, int flip) {
         int shift = k * 8;
         // put all values in the appropriate buckets
-        fillBuckets(data, bucketsArray, shift);
+        fillBuckets(data, fromIndex, toIndex, bucketsArray, shift, flip);
         // move values from the buckets back to the array
-        fillArrayFromBuckets(data, bucketsArray);
+        fillArrayFromBuckets(data, fromIndex, bucketsArray);
     }
 
-    private static void fillArrayFromBuckets(int[] data, IntList[] bucketsArray) {
-        int pos = -1;
+    private static void fillArrayFromBuckets(int[] data, int fromIndex, IntList[] bucketsArray) {
+        int pos = fromIndex - 1;
         for (int bucket = 0; bucket < 256; ++bucket) {
             IntList bucketData = bucketsArray[bucket];
             pos = copyBucketToArray(data, pos, bucketData);
@@ -59,14 +87,279 @@ public class RadixSortInt {
         return pos;
     }
 
-    private static void fillBuckets(int[] data, IntList[] bucketsArray, int shift) {
-        for (int n = 0, end = data.length; n < end; ++n) {
+    private static void fillBuckets(int[] data, int fromIndex, int toIndex, IntList[] bucketsArray, int shift, int flip) {
+        for (int n = fromIndex; n < toIndex; ++n) {
             int value = data[n];
-            int bucket = (value >> shift) & 255;
+            int bucket = ((value >> shift) & 255) ^ flip;
             bucketsArray[bucket].add(value);
         }
     }
 
+    /**
+     * Least significant digit, iterative, K = 32, non-negative, counting based: one pass builds the histograms of all 4 digits, each digit pass then scatters into the other of two arrays (ping-pong); passes in which all values have the same digit are skipped. Needs a scratch array of size n
+     */
+    public static void sortLsdCounting(int[] data) {
+        sortLsdCounting(data, 0, data.length, new int[data.length]);
+    }
+
+    /**
+     * Allocation free apart from the 4 KB of histograms
+     *
+     * @param scratch
+     *            an array of at least toIndex - fromIndex elements, its content is overwritten
+     */
+    public static void sortLsdCounting(int[] data, int fromIndex, int toIndex, int[] scratch) {
+        sortLsdCounting(data, fromIndex, toIndex, scratch, false);
+    }
+
+    /**
+     * Same as {@link #sortLsdCounting(int[])} but negative values are allowed (the sign bit is flipped for the most significant digit)
+     */
+    public static void sortLsdCountingSigned(int[] data) {
+        sortLsdCounting(data, 0, data.length, new int[data.length], true);
+    }
+
+    public static void sortLsdCountingSigned(int[] data, int fromIndex, int toIndex, int[] scratch) {
+        sortLsdCounting(data, fromIndex, toIndex, scratch, true);
+    }
+
+    private static void sortLsdCounting(int[] data, int fromIndex, int toIndex, int[] scratch, boolean signed) {
+        int n = toIndex - fromIndex;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("Scratch array too small: " + scratch.length + " < " + n);
+        }
+        int signFlip = signed ? 128 : 0;
+        int[] counts = new int[4 * 256];
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int value = data[i];
+            counts[value & 255] += 1;
+            counts[256 + ((value >>> 8) & 255)] += 1;
+            counts[512 + ((value >>> 16) & 255)] += 1;
+            counts[768 + ((value >>> 24) ^ signFlip)] += 1;
+        }
+        int[] src = data;
+        int srcOffset = fromIndex;
+        int[] dst = scratch;
+        int dstOffset = 0;
+        for (int k = 0; k < 4; ++k) {
+            int base = k * 256;
+            if (toOffsets(counts, base, n, dstOffset)) {
+                int shift = k * 8;
+                int flip = k == 3 ? signFlip : 0;
+                for (int i = srcOffset, end = srcOffset + n; i < end; ++i) {
+                    int value = src[i];
+                    dst[counts[base + (((value >>> shift) & 255) ^ flip)]++] = value;
+                }
+                int[] t = src;
+                src = dst;
+                dst = t;
+                int o = srcOffset;
+                srcOffset = dstOffset;
+                dstOffset = o;
+            }
+        }
+        if (src != data) {
+            System.arraycopy(src, srcOffset, data, fromIndex, n);
+        }
+    }
+
+    /**
+     * Least significant digit, iterative, counting based, negative values allowed. Scans min and max once and sorts value - min (as unsigned int), so only the bits of the range have to be sorted. The digit width (8, 11 or 16 bits) is chosen by the number of bits of the range and the size of the array: the width with the least work (passes * (n + buckets)) wins, the bits are then spread evenly over the passes. Passes in which all values have the same digit are skipped. Small ranges need one or two passes only. Needs a scratch array of size n
+     */
+    public static void sortLsdAdaptive(int[] data) {
+        sortLsdAdaptive(data, 0, data.length, new int[data.length]);
+    }
+
+    /**
+     * @param scratch
+     *            an array of at least toIndex - fromIndex elements, its content is overwritten
+     */
+    public static void sortLsdAdaptive(int[] data, int fromIndex, int toIndex, int[] scratch) {
+        int n = toIndex - fromIndex;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("Scratch array too small: " + scratch.length + " < " + n);
+        }
+        if (n < 2) {
+            return;
+        }
+        int min = data[fromIndex];
+        int max = min;
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            int value = data[i];
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+        }
+        int range = max - min; // unsigned
+        if (range == 0) {
+            return;
+        }
+        int bits = 32 - Integer.numberOfLeadingZeros(range);
+        int passes = passes(bits, n);
+        int width = (bits + passes - 1) / passes;
+        int radix = 1 << width;
+        int mask = radix - 1;
+
+        int[] counts = new int[passes << width];
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int key = data[i] - min;
+            for (int k = 0, shift = 0; k < passes; ++k, shift += width) {
+                counts[(k << width) + ((key >>> shift) & mask)] += 1;
+            }
+        }
+        int[] src = data;
+        int srcOffset = fromIndex;
+        int[] dst = scratch;
+        int dstOffset = 0;
+        for (int k = 0; k < passes; ++k) {
+            int base = k << width;
+            if (toOffsets(counts, base, radix, n, dstOffset)) {
+                int shift = k * width;
+                for (int i = srcOffset, end = srcOffset + n; i < end; ++i) {
+                    int value = src[i];
+                    dst[counts[base + (((value - min) >>> shift) & mask)]++] = value;
+                }
+                int[] t = src;
+                src = dst;
+                dst = t;
+                int o = srcOffset;
+                srcOffset = dstOffset;
+                dstOffset = o;
+            }
+        }
+        if (src != data) {
+            System.arraycopy(src, srcOffset, data, fromIndex, n);
+        }
+    }
+
+    /**
+     * @return the number of passes of the digit width (8, 11 or 16 bits) with the least work for sorting n values of the given number of bits
+     */
+    static int passes(int bits, int n) {
+        int bestPasses = 0;
+        long bestCost = Long.MAX_VALUE;
+        for (int width : new int[] { 8, 11, 16 }) {
+            int passes = (bits + width - 1) / width;
+            long cost = passes * ((long) n + (1 << width));
+            if (cost < bestCost) {
+                bestCost = cost;
+                bestPasses = passes;
+            }
+        }
+        return bestPasses;
+    }
+
+    /**
+     * Replaces the 256 counts starting at base by the start offsets
+     *
+     * @return false if all values have the same digit (the pass can be skipped)
+     */
+    static boolean toOffsets(int[] counts, int base, int n, int offset) {
+        return toOffsets(counts, base, 256, n, offset);
+    }
+
+    /**
+     * Replaces the radix counts starting at base by the start offsets
+     *
+     * @return false if all values have the same digit (the pass can be skipped)
+     */
+    static boolean toOffsets(int[] counts, int base, int radix, int n, int offset) {
+        int pos = offset;
+        for (int i = base, end = base + radix; i < end; ++i) {
+            int c = counts[i];
+            if (c == n) {
+                return false;
+            }
+            counts[i] = pos;
+            pos += c;
+        }
+        return true;
+    }
+
+    /**
+     * Most significant digit, unstable, recursion, 8 bit digits (American flag sort), negative values allowed (the sign bit is flipped for the most significant digit). In place: every digit pass counts the bucket sizes and then moves the values into their buckets by following swap cycles, no scratch array is needed. Buckets of up to {@link #INSERTION_SORT_THRESHOLD} values are finished by insertion sort, digits which are the same for all values of a bucket cost one counting pass only
+     */
+    public static void sortMsdInPlace(int[] data) {
+        sortMsdInPlace(data, 0, data.length);
+    }
+
+    /**
+     * Sorts the range from fromIndex (inclusive) to toIndex (exclusive)
+     */
+    public static void sortMsdInPlace(int[] data, int fromIndex, int toIndex) {
+        // one set of bucket bounds per digit (recursion level), 8 KB in total
+        sortMsdInPlace(data, fromIndex, toIndex, 24, new int[4][256], new int[4][256]);
+    }
+
+    private static void sortMsdInPlace(int[] data, int fromIndex, int toIndex, int shift, int[][] levelHeads, int[][] levelTails) {
+        int n = toIndex - fromIndex;
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(data, fromIndex, toIndex);
+            return;
+        }
+        int flip = shift == 24 ? 128 : 0;
+        int level = 3 - shift / 8;
+        int[] heads = levelHeads[level];
+        int[] tails = levelTails[level];
+        Arrays.fill(tails, 0);
+        for (int i = fromIndex; i < toIndex; ++i) {
+            tails[((data[i] >>> shift) & 255) ^ flip] += 1;
+        }
+        int pos = fromIndex;
+        for (int bucket = 0; bucket < 256; ++bucket) {
+            int count = tails[bucket];
+            if (count == n) {
+                // all values have the same digit
+                if (shift > 0) {
+                    sortMsdInPlace(data, fromIndex, toIndex, shift - 8, levelHeads, levelTails);
+                }
+                return;
+            }
+            heads[bucket] = pos;
+            pos += count;
+            tails[bucket] = pos;
+        }
+        // cycle leader permutation: take the value at the head of a bucket and swap it to the head of its own bucket until a value of the bucket comes back
+        for (int bucket = 0; bucket < 256; ++bucket) {
+            while (heads[bucket] < tails[bucket]) {
+                int value = data[heads[bucket]];
+                int valueBucket = ((value >>> shift) & 255) ^ flip;
+                while (valueBucket != bucket) {
+                    int displaced = data[heads[valueBucket]];
+                    data[heads[valueBucket]++] = value;
+                    value = displaced;
+                    valueBucket = ((value >>> shift) & 255) ^ flip;
+                }
+                data[heads[bucket]++] = value;
+            }
+        }
+        if (shift > 0) {
+            // heads[bucket] == tails[bucket] is the end of the bucket now
+            int start = fromIndex;
+            for (int bucket = 0; bucket < 256; ++bucket) {
+                int end = tails[bucket];
+                if (end - start > 1) {
+                    sortMsdInPlace(data, start, end, shift - 8, levelHeads, levelTails);
+                }
+                start = end;
+            }
+        }
+    }
+
+    private static void insertionSort(int[] data, int fromIndex, int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            int value = data[i];
+            int j = i - 1;
+            while (j >= fromIndex && data[j] > value) {
+                data[j + 1] = data[j];
+                --j;
+            }
+            data[j + 1] = value;
+        }
+    }
+
     /**
      * Most significant digit, unstable, recursion, binary (K = 32), non-negative
      */
@@ -75,11 +368,40 @@ public class RadixSortInt {
     }
 
     public static void sortMsdBinaryInPlace(int[] data, int start, int end) {
+        // only the range determines the highest bit
         int max = 0;
-        for (int i : data) {
-            max = Math.max(max, i);
+        for (int i = start; i <= end; ++i) {
+            max = Math.max(max, data[i]);
+        }
+        if (max == 0) {
+            return;
+        }
+        sortMsdBinaryInPlace(data, start, end, 31 - Integer.numberOfLeadingZeros(max));
+    }
+
+    /**
+     * Most significant digit, unstable, recursion, binary (K = 32), negative values allowed: the values are partitioned by the sign bit (negative ones first) and both parts are sorted by the remaining 31 bits
+     */
+    public static void sortMsdBinaryInPlaceSigned(int[] data) {
+        sortMsdBinaryInPlaceSigned(data, 0, data.length - 1);
+    }
+
+    public static void sortMsdBinaryInPlaceSigned(int[] data, int start, int end) {
+        if (end <= start) {
+            return;
+        }
+        int positiveBin = end + 1;
+        for (int i = start; i < positiveBin;) {
+            int intValue = data[i];
+            if (intValue >= 0) {
+                data[i] = data[--positiveBin];
+                data[positiveBin] = intValue;
+            } else {
+                i += 1;
+            }
         }
-        sortMsdBinaryInPlace(data, start, end, (int) Math.ceil(Math.log(max) / Math.log(2)));
+        sortMsdBinaryInPlace(data, start, positiveBin - 1, 30);
+        sortMsdBinaryInPlace(data, positiveBin, end, 30);
     }
 
     public static void sortMsdBinaryInPlace(int[] data, int start, int end, int bitIndex) {
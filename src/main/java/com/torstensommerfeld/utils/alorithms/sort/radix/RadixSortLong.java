@@ -0,0 +1,61 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+public class RadixSortLong {
+
+    /**
+     * Least significant digit, iterative, K = 64, negative values allowed (the sign bit is flipped for the most significant digit), counting based with 8 passes of 8 bits; passes in which all values have the same digit are skipped. Needs a scratch array of size n
+     */
+    public static void sortLsd(long[] data) {
+        sortLsd(data, 0, data.length, new long[data.length]);
+    }
+
+    /**
+     * Allocation free apart from the 8 KB of histograms
+     *
+     * @param scratch
+     *            an array of at least toIndex - fromIndex elements, its content is overwritten
+     */
+    public static void sortLsd(long[] data, int fromIndex, int toIndex, long[] scratch) {
+        int n = toIndex - fromIndex;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("Scratch array too small: " + scratch.length + " < " + n);
+        }
+        int[] counts = new int[8 * 256];
+        for (int i = fromIndex; i < toIndex; ++i) {
+            long value = data[i];
+            for (int k = 0; k < 8; ++k) {
+                counts[(k << 8) + digit(value, k)] += 1;
+            }
+        }
+        long[] src = data;
+        int srcOffset = fromIndex;
+        long[] dst = scratch;
+        int dstOffset = 0;
+        for (int k = 0; k < 8; ++k) {
+            int base = k << 8;
+            if (RadixSortInt.toOffsets(counts, base, n, dstOffset)) {
+                int shift = k << 3;
+                int flip = k == 7 ? 128 : 0;
+                for (int i = srcOffset, end = srcOffset + n; i < end; ++i) {
+                    long value = src[i];
+                    dst[counts[base + (((int) (value >>> shift) & 255) ^ flip)]++] = value;
+                }
+                long[] t = src;
+                src = dst;
+                dst = t;
+                int o = srcOffset;
+                srcOffset = dstOffset;
+                dstOffset = o;
+            }
+        }
+        if (src != data) {
+            System.arraycopy(src, srcOffset, data, fromIndex, n);
+        }
+    }
+
+    private static int digit(long value, int k) {
+        int digit = (int) (value >>> (k << 3)) & 255;
+        return k == 7 ? digit ^ 128 : digit;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+public class RadixSortObjectDouble {
+
+    /**
+     * Least significant digit, iterative, K = 64, stable, counting based on the IEEE 754 bits of the keys (see {@link RadixSortDouble#sortLsd(double[])}): the order is the one of {@link Double#compare(double, double)}, NaN keys at the end. Needs a scratch array of size n
+     */
+    public static <T> void sortLsd(T[] data, DoubleKeyAccessor<T> keyAccessor) {
+        sortLsd(data, keyAccessor, data.clone());
+    }
+
+    /**
+     * @param scratch
+     *            an array of at least the size of data, its content is overwritten
+     */
+    public static <T> void sortLsd(T[] data, DoubleKeyAccessor<T> keyAccessor, T[] scratch) {
+        RadixSortObjectLong.sortUnsigned(data, object -> RadixSortDouble.sortableBits(keyAccessor.getKey(object)), scratch);
+    }
+
+    public interface DoubleKeyAccessor<T> {
+        double getKey(T object);
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.torstensommerfeld.utils.alorithms.sort.radix;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.ListIterator;
 
 import com.torstensommerfeld.utils.alorithms.collections.UnOrderedArrayList;
 
@@ -16,17 +18,32 @@ public class RadixSortObjectInt {
     }
 
     public static <T> void sortLsd(T[] data, KeyAccessor<T> keyAccessor, Buckets<T> buckets) {
+        sortLsd(data, keyAccessor, buckets, false);
+    }
+
+    /**
+     * Least significant digit, iterative, K = 32, negative keys allowed (the sign bit is flipped for the most significant digit), needs total buffer size (buckets) of size ~ n
+     */
+    public static <T> void sortLsdSigned(T[] data, KeyAccessor<T> keyAccessor) {
+        sortLsd(data, keyAccessor, new Buckets<T>(), true);
+    }
+
+    public static <T> void sortLsdSigned(T[] data, KeyAccessor<T> keyAccessor, Buckets<T> buckets) {
+        sortLsd(data, keyAccessor, buckets, true);
+    }
+
+    private static <T> void sortLsd(T[] data, KeyAccessor<T> keyAccessor, Buckets<T> buckets, boolean signed) {
         List<T>[] bucketsArray = buckets.buckets;
         for (int k = 0; k < 4; ++k) {
             buckets.clear();
-            handleKey(data, keyAccessor, bucketsArray, k);
+            handleKey(data, keyAccessor, bucketsArray, k, signed && k == 3 ? 128 : 0);
         }
     }
 
-    private static <T> void handleKey(T[] data, KeyAccessor<T> keyAccessor, List<T>[] bucketsArray, int k) {
+    private static <T> void handleKey(T[] data, KeyAccessor<T> keyAccessor, List<T>[] bucketsArray, int k, int flip) {
         int shift = k * 8;
         // put all values in the appropriate buckets
-        fillBuckets(data, keyAccessor, bucketsArray, shift);
+        fillBuckets(data, keyAccessor, bucketsArray, shift, flip);
         // move values from the buckets back to the array
         fillArrayFromBuckets(data, bucketsArray);
     }
@@ -60,14 +77,180 @@ public class RadixSortObjectInt {
         return pos;
     }
 
-    private static <T> void fillBuckets(T[] data, KeyAccessor<T> keyAccessor, List<T>[] bucketsArray, int shift) {
+    private static <T> void fillBuckets(T[] data, KeyAccessor<T> keyAccessor, List<T>[] bucketsArray, int shift, int flip) {
         for (int n = 0, end = data.length; n < end; ++n) {
             T value = data[n];
-            int bucket = (keyAccessor.getKey(value) >> shift) & 255;
+            int bucket = ((keyAccessor.getKey(value) >> shift) & 255) ^ flip;
             bucketsArray[bucket].add(value);
         }
     }
 
+    /**
+     * Least significant digit, iterative, K = 32, stable, non-negative, counting based: the objects are scattered into a single scratch array using prefix summed offsets instead of growing buckets; passes in which all keys have the same digit are skipped. Needs a scratch array of size n
+     */
+    public static <T> void sortLsdCounting(T[] data, KeyAccessor<T> keyAccessor) {
+        sortLsdCounting(data, 0, data.length, keyAccessor, data.clone(), false);
+    }
+
+    /**
+     * Sorts the range from fromIndex (inclusive) to toIndex (exclusive)
+     *
+     * @param scratch
+     *            an array of at least toIndex - fromIndex elements, its content is overwritten
+     */
+    public static <T> void sortLsdCounting(T[] data, int fromIndex, int toIndex, KeyAccessor<T> keyAccessor, T[] scratch) {
+        sortLsdCounting(data, fromIndex, toIndex, keyAccessor, scratch, false);
+    }
+
+    /**
+     * Same as {@link #sortLsdCounting(Object[], KeyAccessor)} but negative keys are allowed (the sign bit is flipped for the most significant digit)
+     */
+    public static <T> void sortLsdCountingSigned(T[] data, KeyAccessor<T> keyAccessor) {
+        sortLsdCounting(data, 0, data.length, keyAccessor, data.clone(), true);
+    }
+
+    public static <T> void sortLsdCountingSigned(T[] data, int fromIndex, int toIndex, KeyAccessor<T> keyAccessor, T[] scratch) {
+        sortLsdCounting(data, fromIndex, toIndex, keyAccessor, scratch, true);
+    }
+
+    private static <T> void sortLsdCounting(T[] data, int fromIndex, int toIndex, KeyAccessor<T> keyAccessor, T[] scratch, boolean signed) {
+        int n = toIndex - fromIndex;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("Scratch array too small: " + scratch.length + " < " + n);
+        }
+        int signFlip = signed ? 128 : 0;
+        int[] counts = new int[4 * 256];
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int key = keyAccessor.getKey(data[i]);
+            counts[key & 255] += 1;
+            counts[256 + ((key >>> 8) & 255)] += 1;
+            counts[512 + ((key >>> 16) & 255)] += 1;
+            counts[768 + ((key >>> 24) ^ signFlip)] += 1;
+        }
+        T[] src = data;
+        int srcOffset = fromIndex;
+        T[] dst = scratch;
+        int dstOffset = 0;
+        for (int k = 0; k < 4; ++k) {
+            int base = k * 256;
+            if (RadixSortInt.toOffsets(counts, base, n, dstOffset)) {
+                int shift = k * 8;
+                int flip = k == 3 ? signFlip : 0;
+                for (int i = srcOffset, end = srcOffset + n; i < end; ++i) {
+                    T value = src[i];
+                    dst[counts[base + (((keyAccessor.getKey(value) >>> shift) & 255) ^ flip)]++] = value;
+                }
+                T[] t = src;
+                src = dst;
+                dst = t;
+                int o = srcOffset;
+                srcOffset = dstOffset;
+                dstOffset = o;
+            }
+        }
+        if (src != data) {
+            System.arraycopy(src, srcOffset, data, fromIndex, n);
+        }
+        // do not keep references in the scratch array
+        Arrays.fill(scratch, 0, n, null);
+    }
+
+    public static <T> void sortLsdCounting(List<T> list, KeyAccessor<T> keyAccessor) {
+        sortLsdCounting(list, 0, list.size(), keyAccessor, false);
+    }
+
+    /**
+     * Sorts the range from fromIndex (inclusive) to toIndex (exclusive) of the list: the range is copied into an array, sorted and written back (like {@link List#sort(java.util.Comparator)})
+     */
+    public static <T> void sortLsdCounting(List<T> list, int fromIndex, int toIndex, KeyAccessor<T> keyAccessor) {
+        sortLsdCounting(list, fromIndex, toIndex, keyAccessor, false);
+    }
+
+    public static <T> void sortLsdCountingSigned(List<T> list, KeyAccessor<T> keyAccessor) {
+        sortLsdCounting(list, 0, list.size(), keyAccessor, true);
+    }
+
+    public static <T> void sortLsdCountingSigned(List<T> list, int fromIndex, int toIndex, KeyAccessor<T> keyAccessor) {
+        sortLsdCounting(list, fromIndex, toIndex, keyAccessor, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void sortLsdCounting(List<T> list, int fromIndex, int toIndex, KeyAccessor<T> keyAccessor, boolean signed) {
+        List<T> range = fromIndex == 0 && toIndex == list.size() ? list : list.subList(fromIndex, toIndex);
+        T[] data = (T[]) range.toArray();
+        sortLsdCounting(data, 0, data.length, keyAccessor, (T[]) new Object[data.length], signed);
+        ListIterator<T> iterator = range.listIterator();
+        for (T value : data) {
+            iterator.next();
+            iterator.set(value);
+        }
+    }
+
+    /**
+     * Stable, negative keys allowed. The keys are read only once (one call of the key accessor per object), the objects are moved only once: the (key, index) pairs are radix sorted and the resulting permutation is applied in a single pass. Needs two long arrays, an int array and a copy of the data of size n
+     */
+    public static <T> void sortLsdPermutation(T[] data, KeyAccessor<T> keyAccessor) {
+        int[] indices = sortIndices(data, keyAccessor);
+        T[] copy = data.clone();
+        for (int i = 0, n = data.length; i < n; ++i) {
+            data[i] = copy[indices[i]];
+        }
+    }
+
+    /**
+     * Stable, negative keys allowed, the data is not modified
+     *
+     * @return the permutation which sorts the data: the i-th smallest object is data[result[i]]
+     */
+    public static <T> int[] sortIndices(T[] data, KeyAccessor<T> keyAccessor) {
+        int n = data.length;
+        // key in the upper, index in the lower half
+        long[] pairs = new long[n];
+        for (int i = 0; i < n; ++i) {
+            pairs[i] = ((long) keyAccessor.getKey(data[i]) << 32) | i;
+        }
+        pairs = sortPairs(pairs, new long[n]);
+        int[] indices = new int[n];
+        for (int i = 0; i < n; ++i) {
+            indices[i] = (int) pairs[i];
+        }
+        return indices;
+    }
+
+    /**
+     * Counting LSD on the upper 32 bits only (the indices are already in ascending order), passes in which all keys have the same digit are skipped
+     *
+     * @return the array (pairs or scratch) which contains the sorted pairs
+     */
+    private static long[] sortPairs(long[] pairs, long[] scratch) {
+        int n = pairs.length;
+        int[] counts = new int[4 * 256];
+        for (int i = 0; i < n; ++i) {
+            int key = (int) (pairs[i] >>> 32);
+            counts[key & 255] += 1;
+            counts[256 + ((key >>> 8) & 255)] += 1;
+            counts[512 + ((key >>> 16) & 255)] += 1;
+            counts[768 + ((key >>> 24) ^ 128)] += 1;
+        }
+        long[] src = pairs;
+        long[] dst = scratch;
+        for (int k = 0; k < 4; ++k) {
+            int base = k * 256;
+            if (RadixSortInt.toOffsets(counts, base, n, 0)) {
+                int shift = 32 + k * 8;
+                int flip = k == 3 ? 128 : 0;
+                for (int i = 0; i < n; ++i) {
+                    long pair = src[i];
+                    dst[counts[base + (((int) (pair >>> shift) & 255) ^ flip)]++] = pair;
+                }
+                long[] t = src;
+                src = dst;
+                dst = t;
+            }
+        }
+        return src;
+    }
+
     @Getter
     public static class Buckets<T> {
         private List<T> buckets[];
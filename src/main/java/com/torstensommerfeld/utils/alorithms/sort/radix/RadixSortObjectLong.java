@@ -0,0 +1,61 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.function.ToLongFunction;
+
+public class RadixSortObjectLong {
+
+    /**
+     * Least significant digit, iterative, K = 64, stable, negative keys allowed, counting based with 8 passes of 8 bits; passes in which all keys have the same digit are skipped. Needs a scratch array of size n
+     */
+    public static <T> void sortLsd(T[] data, LongKeyAccessor<T> keyAccessor) {
+        sortLsd(data, keyAccessor, data.clone());
+    }
+
+    /**
+     * @param scratch
+     *            an array of at least the size of data, its content is overwritten
+     */
+    public static <T> void sortLsd(T[] data, LongKeyAccessor<T> keyAccessor, T[] scratch) {
+        sortUnsigned(data, object -> keyAccessor.getKey(object) ^ Long.MIN_VALUE, scratch);
+    }
+
+    /**
+     * Sorts by the unsigned order of the keys
+     */
+    static <T> void sortUnsigned(T[] data, ToLongFunction<T> key, T[] scratch) {
+        int n = data.length;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("Scratch array too small: " + scratch.length + " < " + n);
+        }
+        int[] counts = new int[8 * 256];
+        for (int i = 0; i < n; ++i) {
+            long k = key.applyAsLong(data[i]);
+            for (int d = 0; d < 8; ++d) {
+                counts[(d << 8) + ((int) (k >>> (d << 3)) & 255)] += 1;
+            }
+        }
+        T[] src = data;
+        T[] dst = scratch;
+        for (int d = 0; d < 8; ++d) {
+            int base = d << 8;
+            if (RadixSortInt.toOffsets(counts, base, n, 0)) {
+                int shift = d << 3;
+                for (int i = 0; i < n; ++i) {
+                    T value = src[i];
+                    dst[counts[base + ((int) (key.applyAsLong(value) >>> shift) & 255)]++] = value;
+                }
+                T[] t = src;
+                src = dst;
+                dst = t;
+            }
+        }
+        if (src != data) {
+            System.arraycopy(src, 0, data, 0, n);
+        }
+    }
+
+    public interface LongKeyAccessor<T> {
+        long getKey(T object);
+    }
+
+}
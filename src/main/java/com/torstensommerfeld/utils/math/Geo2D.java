@@ -1,5 +1,6 @@
 package com.torstensommerfeld.utils.math;
 
+import com.torstensommerfeld.utils.alorithms.collections.DoubleList;
 import com.torstensommerfeld.utils.math.matrix.EquationSolution;
 import com.torstensommerfeld.utils.math.matrix.Matrix;
 import com.torstensommerfeld.utils.math.matrix.MatrixUtil;
@@ -756,12 +757,26 @@ public class Geo2D {
      *
      */
     public static Line findCenterLine(double[] points, Line result) {
-        int count = points.length / 2;
+        return findCenterLine(points, points.length, result);
+    }
+
+    /**
+     * Same as {@link #findCenterLine(double[], Line)} for the points (x, y interleaved) in the list, the buffer of the list is used without copying
+     */
+    public static Line findCenterLine(DoubleList points, Line result) {
+        return findCenterLine(points.getBuffer(), points.size(), result);
+    }
+
+    /**
+     * Same as {@link #findCenterLine(double[], Line)} but only the first length values (x, y interleaved) of the array are used
+     */
+    public static Line findCenterLine(double[] points, int length, Line result) {
+        int count = length / 2;
 
         // get median
         double mx = 0;
         double my = 0;
-        for (int i = 0, end = points.length; i < end; i += 2) {
+        for (int i = 0, end = count * 2; i < end; i += 2) {
             mx += points[i];
             my += points[i + 1];
         }
@@ -776,7 +791,7 @@ public class Geo2D {
         double mxic2 = 0;
         double myic2 = 0;
 
-        for (int i = 0, end = points.length; i < end; i += 2) {
+        for (int i = 0, end = count * 2; i < end; i += 2) {
             double xi = points[i];
             double yi = points[i + 1];
             double mxi = mx - xi;
@@ -0,0 +1,90 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChunkedIntListTest {
+
+    @Test
+    public void testAddAndGetOnHeap() {
+        testAddAndGet(false);
+    }
+
+    @Test
+    public void testAddAndGetOffHeap() {
+        testAddAndGet(true);
+    }
+
+    private void testAddAndGet(boolean offHeap) {
+        // given - small pages to cross many page borders
+        try (ChunkedIntList list = new ChunkedIntList(4, offHeap)) {
+
+            // when
+            for (int i = 0; i < 100; ++i) {
+                list.add(i);
+            }
+            int[] bulk = new int[1000];
+            for (int i = 0; i < bulk.length; ++i) {
+                bulk[i] = 100 + i;
+            }
+            list.addAll(bulk, 0, bulk.length);
+            list.set(7, -7);
+
+            // then
+            Assert.assertEquals(1100, list.size());
+            Assert.assertEquals(1104, list.capacity());
+            for (int i = 0; i < 1100; ++i) {
+                Assert.assertEquals(i == 7 ? -7 : i, list.get(i));
+            }
+            int[] copy = new int[30];
+            list.copyTo(90, copy, 0, 30);
+            for (int i = 0; i < 30; ++i) {
+                Assert.assertEquals(90 + i, copy[i]);
+            }
+            AtomicLong sum = new AtomicLong();
+            list.forEach(sum::addAndGet);
+            Assert.assertEquals(1099L * 1100 / 2 - 14, sum.get());
+            Assert.assertEquals(1099, list.removeLast());
+            Assert.assertEquals(1099, list.size());
+        }
+    }
+
+    @Test
+    public void testClearKeepsPages() {
+        // given
+        ChunkedIntList list = new ChunkedIntList(4, false);
+        list.addAll(new int[40]);
+
+        // when
+        list.clear();
+        list.add(5);
+
+        // then
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(48, list.capacity());
+        Assert.assertEquals(5, list.get(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        // given
+        ChunkedIntList list = new ChunkedIntList();
+        list.add(1);
+
+        // when
+        list.get(1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClosed() {
+        // given
+        ChunkedIntList list = new ChunkedIntList(true);
+        list.add(1);
+        list.close();
+
+        // when
+        list.add(2);
+    }
+}
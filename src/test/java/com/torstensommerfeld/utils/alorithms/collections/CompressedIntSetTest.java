@@ -0,0 +1,140 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompressedIntSetTest {
+
+    private CompressedIntSet classUnderTest;
+
+    @Before
+    public void setup() {
+        classUnderTest = new CompressedIntSet();
+    }
+
+    @Test
+    public void testRandomOperations() {
+        // given
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random rnd = new Random(0);
+
+        // when - dense enough to create bitmap containers and convert them back
+        for (int i = 0; i < 300000; ++i) {
+            int value = rnd.nextInt(200000) - 70000;
+            if (rnd.nextInt(3) == 0) {
+                Assert.assertEquals(expected.remove(value), classUnderTest.remove(value));
+            } else {
+                Assert.assertEquals(expected.add(value), classUnderTest.add(value));
+            }
+        }
+
+        // then
+        Assert.assertEquals(expected.size(), classUnderTest.cardinality());
+        Assert.assertArrayEquals(toArray(expected), classUnderTest.toArray());
+        Assert.assertTrue(classUnderTest.contains(expected.first()));
+        Assert.assertFalse(classUnderTest.contains(200000));
+    }
+
+    @Test
+    public void testRankAndSelect() {
+        // given
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random rnd = new Random(1);
+        for (int i = 0; i < 20000; ++i) {
+            int value = rnd.nextInt(1 << 18) - (1 << 17);
+            expected.add(value);
+            classUnderTest.add(value);
+        }
+        classUnderTest.addRange(1 << 20, (1 << 20) + 100000);
+        for (int i = 0; i < 100000; ++i) {
+            expected.add((1 << 20) + i);
+        }
+        int[] values = toArray(expected);
+
+        // then
+        for (int i = 0; i < values.length; i += 97) {
+            Assert.assertEquals(values[i], classUnderTest.select(i));
+            Assert.assertEquals(i + 1, classUnderTest.rank(values[i]));
+        }
+        Assert.assertEquals(0, classUnderTest.rank(Integer.MIN_VALUE));
+        Assert.assertEquals(values.length, classUnderTest.rank(Integer.MAX_VALUE));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSelectOutOfBounds() {
+        // given
+        classUnderTest.add(1);
+
+        // when
+        classUnderTest.select(1);
+    }
+
+    @Test
+    public void testAddRange() {
+        // when
+        classUnderTest.add(5);
+        classUnderTest.addRange(-3, 200000);
+
+        // then
+        Assert.assertEquals(200003, classUnderTest.cardinality());
+        Assert.assertTrue(classUnderTest.contains(-3));
+        Assert.assertTrue(classUnderTest.contains(199999));
+        Assert.assertFalse(classUnderTest.contains(200000));
+        Assert.assertFalse(classUnderTest.contains(-4));
+        // two full chunks as bitmaps cost 8 KB each, far below the 4 bytes per value of an int[]
+        Assert.assertTrue(classUnderTest.getSizeInBytes() < 200003 / 4);
+    }
+
+    @Test
+    public void testSetAlgebra() {
+        // given
+        TreeSet<Integer> a = new TreeSet<>();
+        TreeSet<Integer> b = new TreeSet<>();
+        CompressedIntSet other = new CompressedIntSet();
+        Random rnd = new Random(2);
+        for (int i = 0; i < 100000; ++i) {
+            // the lower range is dense (bitmaps), the upper one sparse (arrays)
+            int value = rnd.nextBoolean() ? rnd.nextInt(100000) : rnd.nextInt(Integer.MAX_VALUE);
+            if (rnd.nextBoolean()) {
+                a.add(value);
+                classUnderTest.add(value);
+            } else {
+                b.add(value);
+                other.add(value);
+            }
+        }
+        classUnderTest.addRange(50000, 60000);
+        other.addRange(55000, 65000);
+        for (int i = 50000; i < 60000; ++i) {
+            a.add(i);
+        }
+        for (int i = 55000; i < 65000; ++i) {
+            b.add(i);
+        }
+
+        // when
+        CompressedIntSet and = classUnderTest.and(other);
+        CompressedIntSet or = classUnderTest.or(other);
+        CompressedIntSet andNot = classUnderTest.andNot(other);
+
+        // then
+        TreeSet<Integer> expectedAnd = new TreeSet<>(a);
+        expectedAnd.retainAll(b);
+        TreeSet<Integer> expectedOr = new TreeSet<>(a);
+        expectedOr.addAll(b);
+        TreeSet<Integer> expectedAndNot = new TreeSet<>(a);
+        expectedAndNot.removeAll(b);
+        Assert.assertArrayEquals(toArray(expectedAnd), and.toArray());
+        Assert.assertArrayEquals(toArray(expectedOr), or.toArray());
+        Assert.assertArrayEquals(toArray(expectedAndNot), andNot.toArray());
+        Assert.assertArrayEquals(toArray(a), classUnderTest.toArray());
+    }
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
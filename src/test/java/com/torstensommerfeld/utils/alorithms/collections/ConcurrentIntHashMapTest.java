@@ -0,0 +1,131 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConcurrentIntHashMapTest {
+
+    private ConcurrentIntHashMap<Integer> classUnderTest;
+
+    @Before
+    public void setup() {
+        classUnderTest = new ConcurrentIntHashMap<>(16, 8);
+    }
+
+    @Test
+    public void testSingleThreaded() {
+        // when
+        for (int i = 0; i < 10000; ++i) {
+            classUnderTest.put(i, i * 2);
+        }
+        Integer removed = classUnderTest.remove(10);
+
+        // then
+        Assert.assertEquals(8, classUnderTest.segmentCount());
+        Assert.assertEquals(9999, classUnderTest.size());
+        Assert.assertEquals(new Integer(20), removed);
+        Assert.assertNull(classUnderTest.get(10));
+        Assert.assertEquals(new Integer(18), classUnderTest.get(9));
+        Assert.assertEquals(new Integer(0), classUnderTest.get(0));
+    }
+
+    @Test
+    public void testConcurrentMerge() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 100000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; ++t) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; ++i) {
+                        classUnderTest.merge(i % 1000, 1, Integer::sum);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        Assert.assertEquals(1000, classUnderTest.size());
+        for (int i = 0; i < 1000; ++i) {
+            Assert.assertEquals(new Integer(threads * perThread / 1000), classUnderTest.get(i));
+        }
+    }
+
+    @Test
+    public void testComputeIfAbsentIsAtomic() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; ++t) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; ++i) {
+                        classUnderTest.computeIfAbsent(i, k -> calls.incrementAndGet());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        Assert.assertEquals(10000, calls.get());
+        Assert.assertEquals(10000, classUnderTest.size());
+    }
+
+    @Test
+    public void testParallelForEach() {
+        // given
+        for (int i = 0; i < 10000; ++i) {
+            classUnderTest.put(i, 1);
+        }
+
+        // when
+        AtomicLong keySum = new AtomicLong();
+        AtomicLong valueSum = new AtomicLong();
+        classUnderTest.forEach(1, (k, v) -> {
+            keySum.addAndGet(k);
+            valueSum.addAndGet(v);
+        });
+
+        // then
+        Assert.assertEquals(49995000L, keySum.get());
+        Assert.assertEquals(10000L, valueSum.get());
+    }
+
+    @Test
+    public void testClear() {
+        // given
+        classUnderTest.put(1, 1);
+
+        // when
+        classUnderTest.clear();
+
+        // then
+        Assert.assertTrue(classUnderTest.isEmpty());
+    }
+}
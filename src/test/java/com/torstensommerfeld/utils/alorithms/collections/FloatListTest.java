@@ -0,0 +1,80 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FloatListTest {
+    @Test
+    public void testAddingAndRemoving() {
+        // given
+        FloatList list = createList();
+
+        // when
+        list.add(0, -1);
+        list.addAll(new float[] { 1000, 1001 });
+        list.removeRange(10, 20);
+        list.remove(0);
+
+        // then
+        Assert.assertEquals(92, list.size());
+        Assert.assertEquals(0, list.get(0), 0);
+        Assert.assertEquals(20, list.get(10), 0);
+        Assert.assertEquals(1001, list.get(91), 0);
+    }
+
+    @Test
+    public void testSortAndBinarySearch() {
+        // given
+        FloatList list = new FloatList();
+        list.addAll(new float[] { 5, -3, 9, 0, 2 });
+
+        // when
+        list.sort();
+
+        // then
+        Assert.assertArrayEquals(new float[] { -3, 0, 2, 5, 9 }, list.toArray(), 0);
+        Assert.assertEquals(3, list.binarySearch(5));
+        Assert.assertTrue(list.binarySearch(4) < 0);
+    }
+
+    @Test
+    public void testSortLarge() {
+        // given
+        FloatList list = new FloatList();
+        Random rnd = new Random(0);
+        for (int i = 0; i < FloatList.RADIX_SORT_THRESHOLD + 10; ++i) {
+            list.add((float) rnd.nextGaussian());
+        }
+        float[] expected = list.toArray();
+        Arrays.sort(expected);
+
+        // when
+        list.sort();
+
+        // then
+        Assert.assertArrayEquals(expected, list.toArray(), 0);
+    }
+
+    @Test
+    public void testStream() {
+        // given
+        FloatList list = createList();
+
+        // when
+        double sum = list.stream().sum();
+
+        // then
+        Assert.assertEquals(4950, sum, 0);
+    }
+
+    private FloatList createList() {
+        FloatList list = new FloatList();
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,248 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.torstensommerfeld.utils.alorithms.collections.IndexedUnOrderedArrayList.Indexed;
+
+public class IndexedUnOrderedArrayListTest {
+
+    private IndexedUnOrderedArrayList<Element> classUnderTest;
+
+    @Before
+    public void setup() {
+        classUnderTest = IndexedUnOrderedArrayList.create();
+    }
+
+    @Test
+    public void testAddRemoveContains() {
+        // given
+        Element e1 = new Element(1);
+        Element e2 = new Element(2);
+        Element e3 = new Element(3);
+        classUnderTest.add(e1);
+        classUnderTest.add(e2);
+        classUnderTest.add(e3);
+
+        // when
+        boolean duplicate = classUnderTest.add(e1);
+        boolean removed = classUnderTest.remove(e1);
+        boolean removedAgain = classUnderTest.remove(e1);
+
+        // then
+        Assert.assertFalse(duplicate);
+        Assert.assertTrue(removed);
+        Assert.assertFalse(removedAgain);
+        Assert.assertEquals(2, classUnderTest.size());
+        Assert.assertFalse(classUnderTest.contains(e1));
+        Assert.assertTrue(classUnderTest.contains(e2));
+        Assert.assertTrue(classUnderTest.contains(e3));
+        Assert.assertEquals(IndexedUnOrderedArrayList.NO_INDEX, e1.getIndex());
+        assertIndices();
+    }
+
+    @Test
+    public void testRandomOperations() {
+        // given
+        List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < 500; ++i) {
+            elements.add(new Element(i));
+        }
+        HashSet<Element> expected = new HashSet<>();
+        Random rnd = new Random(0);
+
+        // when
+        for (int i = 0; i < 20000; ++i) {
+            Element e = elements.get(rnd.nextInt(elements.size()));
+            switch (rnd.nextInt(4)) {
+            case 0:
+                Assert.assertEquals(expected.remove(e), classUnderTest.remove(e));
+                break;
+            case 1:
+                if (!classUnderTest.isEmpty()) {
+                    expected.remove(classUnderTest.pop());
+                }
+                break;
+            default:
+                Assert.assertEquals(expected.add(e), classUnderTest.add(e));
+            }
+        }
+
+        // then
+        Assert.assertEquals(expected, new HashSet<>(classUnderTest));
+        assertIndices();
+    }
+
+    @Test
+    public void testBulkOperationsKeepIndices() {
+        // given
+        for (int i = 0; i < 20; ++i) {
+            classUnderTest.add(new Element(i));
+        }
+
+        // when
+        classUnderTest.removeIf(e -> e.value % 3 == 0);
+        classUnderTest.removeIndices(new int[] { 0, 5 });
+        classUnderTest.sort((a, b) -> Integer.compare(a.value, b.value));
+
+        // then
+        Assert.assertEquals(11, classUnderTest.size());
+        assertIndices();
+    }
+
+    @Test
+    public void testRemoveIfThrowingFilter() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(new Element(i));
+        }
+
+        // when
+        try {
+            classUnderTest.removeIf(e -> {
+                if (e.value == 7) {
+                    throw new IllegalStateException();
+                }
+                return e.value < 5;
+            });
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        // then
+        Assert.assertEquals(10, classUnderTest.size());
+        assertIndices();
+    }
+
+    @Test
+    public void testAddNull() {
+        // given
+        Element e1 = new Element(1);
+        classUnderTest.add(e1);
+
+        // when
+        try {
+            classUnderTest.add(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+            // expected
+        }
+
+        // then
+        Assert.assertEquals(1, classUnderTest.size());
+        Assert.assertSame(e1, classUnderTest.get(0));
+        assertIndices();
+    }
+
+    @Test
+    public void testSetNull() {
+        // given
+        Element e1 = new Element(1);
+        Element e2 = new Element(2);
+        classUnderTest.add(e1);
+        classUnderTest.add(e2);
+
+        // when
+        try {
+            classUnderTest.set(0, null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+            // expected
+        }
+
+        // then
+        Assert.assertEquals(2, classUnderTest.size());
+        Assert.assertSame(e1, classUnderTest.get(0));
+        Assert.assertSame(e2, classUnderTest.get(1));
+        Assert.assertTrue(classUnderTest.contains(e1));
+        assertIndices();
+    }
+
+    @Test
+    public void testReplaceAll() {
+        // given
+        Element e1 = new Element(1);
+        Element e2 = new Element(2);
+        Element replacement = new Element(3);
+        classUnderTest.add(e1);
+        classUnderTest.add(e2);
+
+        // when
+        classUnderTest.replaceAll(e -> e == e1 ? replacement : e);
+
+        // then
+        Assert.assertSame(replacement, classUnderTest.get(0));
+        Assert.assertTrue(classUnderTest.contains(replacement));
+        Assert.assertFalse(classUnderTest.contains(e1));
+        Assert.assertEquals(IndexedUnOrderedArrayList.NO_INDEX, e1.getIndex());
+        assertIndices();
+    }
+
+    @Test
+    public void testListIteratorSet() {
+        // given
+        Element e1 = new Element(1);
+        classUnderTest.add(e1);
+        ListIterator<Element> iterator = classUnderTest.listIterator();
+        iterator.next();
+
+        // when
+        try {
+            iterator.set(new Element(2));
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        // then
+        Assert.assertSame(e1, classUnderTest.get(0));
+        assertIndices();
+    }
+
+    @Test
+    public void testClear() {
+        // given
+        Element e1 = new Element(1);
+        classUnderTest.add(e1);
+
+        // when
+        classUnderTest.clear();
+
+        // then
+        Assert.assertFalse(classUnderTest.contains(e1));
+        Assert.assertEquals(IndexedUnOrderedArrayList.NO_INDEX, e1.getIndex());
+    }
+
+    private void assertIndices() {
+        for (int i = 0; i < classUnderTest.size(); ++i) {
+            Assert.assertEquals(i, classUnderTest.get(i).getIndex());
+        }
+    }
+
+    private static class Element implements Indexed {
+        private final int value;
+        private int index = IndexedUnOrderedArrayList.NO_INDEX;
+
+        Element(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public void setIndex(int index) {
+            this.index = index;
+        }
+    }
+}
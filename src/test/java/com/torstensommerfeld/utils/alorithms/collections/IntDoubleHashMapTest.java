@@ -0,0 +1,55 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IntDoubleHashMapTest {
+
+    private IntDoubleHashMap classUnderTest;
+
+    @Before
+    public void setup() {
+        classUnderTest = new IntDoubleHashMap();
+    }
+
+    @Test
+    public void testAddTo() {
+        // when
+        for (int i = 0; i < 10000; ++i) {
+            classUnderTest.addTo(i % 100, 0.5);
+        }
+
+        // then
+        Assert.assertEquals(100, classUnderTest.size());
+        Assert.assertEquals(50.0, classUnderTest.get(0), 1e-9);
+        Assert.assertEquals(50.0, classUnderTest.get(99), 1e-9);
+        Assert.assertEquals(Double.NaN, classUnderTest.getOrDefault(100, Double.NaN), 0);
+    }
+
+    @Test
+    public void testContainsValue() {
+        // given
+        classUnderTest.put(1, Double.NaN);
+        classUnderTest.put(2, 2.5);
+
+        // then
+        Assert.assertTrue(classUnderTest.containsValue(Double.NaN));
+        Assert.assertTrue(classUnderTest.containsValue(2.5));
+        Assert.assertFalse(classUnderTest.containsValue(0));
+    }
+
+    @Test
+    public void testForEach() {
+        // given
+        classUnderTest.put(0, 1.5);
+        classUnderTest.put(1, 2.5);
+
+        // when
+        double[] sum = new double[1];
+        classUnderTest.forEach((k, v) -> sum[0] += k + v);
+
+        // then
+        Assert.assertEquals(5.0, sum[0], 1e-9);
+    }
+}
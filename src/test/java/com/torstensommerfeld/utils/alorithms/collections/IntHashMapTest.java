@@ -100,4 +100,205 @@ public class IntHashMapTest {
         Assert.assertEquals(new Integer(4), iterator.next());
         Assert.assertFalse(iterator.hasNext());
     }
+
+    @Test
+    public void testMixerWithStridedKeys() {
+        // given
+        IntHashMap<Integer> identity = new IntHashMap<>(4096, 0.75f, IntKeyMixer.IDENTITY);
+        IntHashMap<Integer> murmur = new IntHashMap<>(4096, 0.75f, IntKeyMixer.MURMUR3);
+
+        // when
+        for (int i = 0; i < 1000; ++i) {
+            identity.put(i * 4096, i);
+            murmur.put(i * 4096, i);
+        }
+
+        // then
+        for (int i = 0; i < 1000; ++i) {
+            Assert.assertEquals(new Integer(i), murmur.get(i * 4096));
+        }
+        Assert.assertEquals(1000, identity.getCollisionStatistics().getMaxChainLength());
+        Assert.assertEquals(1, identity.getCollisionStatistics().getUsedBuckets());
+        Assert.assertTrue(murmur.getCollisionStatistics().getMaxChainLength() < 10);
+        Assert.assertTrue(murmur.getCollisionStatistics().getUsedBuckets() > 500);
+    }
+
+    @Test
+    public void testMixerSurvivesResize() {
+        // given
+        IntHashMap<Integer> map = new IntHashMap<>(IntKeyMixer.FIBONACCI);
+
+        // when
+        for (int i = 0; i < 10000; ++i) {
+            map.put(i * 16, i);
+        }
+        map.remove(160);
+
+        // then
+        Assert.assertEquals(9999, map.size());
+        Assert.assertNull(map.get(160));
+        for (int i = 0; i < 10000; ++i) {
+            if (i != 10) {
+                Assert.assertEquals(new Integer(i), map.get(i * 16));
+            }
+        }
+    }
+
+    @Test
+    public void testCollisionStatistics() {
+        // given
+        classUnderTest.put(1, 1);
+        classUnderTest.put(17, 2);
+        classUnderTest.put(2, 3);
+
+        // when
+        IntHashMap.CollisionStatistics statistics = classUnderTest.getCollisionStatistics();
+
+        // then
+        Assert.assertEquals(16, statistics.getCapacity());
+        Assert.assertEquals(3, statistics.getSize());
+        Assert.assertEquals(2, statistics.getUsedBuckets());
+        Assert.assertArrayEquals(new int[] { 14, 1, 1 }, statistics.getChainLengthHistogram());
+        Assert.assertEquals(2, statistics.getMaxChainLength());
+        Assert.assertEquals(1.5, statistics.getAverageChainLength(), 1e-9);
+        Assert.assertEquals(4 / 3.0, statistics.getAverageProbeLength(), 1e-9);
+    }
+
+    @Test
+    public void testForEachKeyAndEntry() {
+        // given
+        classUnderTest.put(1, 2);
+        classUnderTest.put(2, 4);
+
+        // when
+        int[] keySum = new int[1];
+        int[] entrySum = new int[1];
+        classUnderTest.forEachKey(k -> keySum[0] += k);
+        classUnderTest.forEachEntry((k, v) -> entrySum[0] += k * v);
+
+        // then
+        Assert.assertEquals(3, keySum[0]);
+        Assert.assertEquals(10, entrySum[0]);
+    }
+
+    @Test
+    public void testCursor() {
+        // given
+        for (int i = 0; i < 100; ++i) {
+            classUnderTest.put(i * 16, i); // long chains with the identity mixer
+        }
+        IntHashMap<Integer>.Cursor cursor = classUnderTest.cursor();
+
+        // when
+        int count = 0;
+        while (cursor.advance()) {
+            Assert.assertEquals(cursor.key(), cursor.value() * 16);
+            if (cursor.value() % 2 == 0) {
+                cursor.remove();
+            } else {
+                cursor.setValue(-cursor.value());
+            }
+            count += 1;
+        }
+        cursor.reset();
+        int remaining = 0;
+        while (cursor.advance()) {
+            Assert.assertTrue(cursor.value() < 0);
+            remaining += 1;
+        }
+
+        // then
+        Assert.assertEquals(100, count);
+        Assert.assertEquals(50, remaining);
+        Assert.assertEquals(50, classUnderTest.size());
+    }
+
+    @Test
+    public void testCursorRemoveTwice() {
+        // given
+        classUnderTest.put(1, 1);
+        classUnderTest.put(2, 2);
+        IntHashMap<Integer>.Cursor cursor = classUnderTest.cursor();
+        cursor.advance();
+        cursor.remove();
+
+        // when
+        try {
+            cursor.remove();
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        // then
+        Assert.assertEquals(1, classUnderTest.size());
+        Assert.assertTrue(cursor.advance());
+        cursor.remove();
+        Assert.assertTrue(classUnderTest.isEmpty());
+    }
+
+    @Test
+    public void testBulkPutAndGet() {
+        // given
+        classUnderTest.put(-1, -1);
+        int[] keys = new int[1000];
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < keys.length; ++i) {
+            keys[i] = i * 32;
+            values[i] = i;
+        }
+
+        // when
+        classUnderTest.putAll(keys, values);
+        int[] lookup = { 0, 32, 33, -1, 999 * 32, 7 };
+        Integer[] out = new Integer[lookup.length];
+        classUnderTest.getAll(lookup, out);
+
+        // then
+        Assert.assertEquals(1001, classUnderTest.size());
+        Assert.assertArrayEquals(new Integer[] { 0, 1, null, -1, 999, null }, out);
+        for (int i = 0; i < keys.length; ++i) {
+            Assert.assertEquals(values[i], classUnderTest.get(keys[i]));
+        }
+    }
+
+    @Test
+    public void testBulkContainsAndRemove() {
+        // given
+        for (int i = 0; i < 100; ++i) {
+            classUnderTest.put(i, i);
+        }
+        int[] keys = { 1, 2, 200, 3 };
+        boolean[] contained = new boolean[keys.length];
+
+        // when
+        boolean all = classUnderTest.containsAll(keys, contained);
+        int removed = classUnderTest.removeAll(keys);
+        boolean allAfterRemoval = classUnderTest.containsAll(new int[] { 4, 5 }, new boolean[2]);
+
+        // then
+        Assert.assertFalse(all);
+        Assert.assertArrayEquals(new boolean[] { true, true, false, true }, contained);
+        Assert.assertEquals(3, removed);
+        Assert.assertEquals(97, classUnderTest.size());
+        Assert.assertFalse(classUnderTest.containsKey(2));
+        Assert.assertTrue(allAfterRemoval);
+    }
+
+    @Test
+    public void testBulkOnEmptyMap() {
+        // given
+        Integer[] out = { 1, 2 };
+        boolean[] contained = { true, true };
+
+        // when
+        classUnderTest.getAll(new int[] { 1, 2 }, out);
+        boolean all = classUnderTest.containsAll(new int[] { 1, 2 }, contained);
+
+        // then
+        Assert.assertArrayEquals(new Integer[] { null, null }, out);
+        Assert.assertArrayEquals(new boolean[] { false, false }, contained);
+        Assert.assertFalse(all);
+        Assert.assertEquals(0, classUnderTest.removeAll(new int[] { 1 }));
+    }
 }
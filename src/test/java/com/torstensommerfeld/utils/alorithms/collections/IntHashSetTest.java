@@ -0,0 +1,107 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IntHashSetTest {
+
+    private IntHashSet classUnderTest;
+
+    @Before
+    public void setup() {
+        classUnderTest = new IntHashSet();
+    }
+
+    @Test
+    public void testAddAndContains() {
+        // when
+        boolean first = classUnderTest.add(1);
+        boolean second = classUnderTest.add(1);
+        boolean zero = classUnderTest.add(0);
+
+        // then
+        Assert.assertTrue(first);
+        Assert.assertFalse(second);
+        Assert.assertTrue(zero);
+        Assert.assertEquals(2, classUnderTest.size());
+        Assert.assertTrue(classUnderTest.contains(0));
+        Assert.assertTrue(classUnderTest.contains(1));
+        Assert.assertFalse(classUnderTest.contains(2));
+    }
+
+    @Test
+    public void testRandomOperations() {
+        // given
+        Set<Integer> expected = new HashSet<>();
+        Random rnd = new Random(0);
+
+        // when
+        for (int i = 0; i < 200000; ++i) {
+            int value = rnd.nextInt(5000) * 512 - 10000;
+            if (rnd.nextInt(3) == 0) {
+                Assert.assertEquals(expected.remove(value), classUnderTest.remove(value));
+            } else {
+                Assert.assertEquals(expected.add(value), classUnderTest.add(value));
+            }
+        }
+
+        // then
+        Assert.assertEquals(expected.size(), classUnderTest.size());
+        int[] array = classUnderTest.toArray();
+        Arrays.sort(array);
+        Assert.assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), array);
+    }
+
+    @Test
+    public void testSetAlgebra() {
+        // given
+        IntHashSet other = new IntHashSet();
+        classUnderTest.addAll(new int[] { 0, 1, 2, 3 });
+        other.addAll(new int[] { 2, 3, 4 });
+
+        // when
+        int[] union = sorted(classUnderTest.union(other, new IntHashSet()));
+        int[] intersection = sorted(classUnderTest.intersect(other, new IntHashSet()));
+        int[] difference = sorted(classUnderTest.difference(other, new IntHashSet()));
+
+        // then
+        Assert.assertArrayEquals(new int[] { 0, 1, 2, 3, 4 }, union);
+        Assert.assertArrayEquals(new int[] { 2, 3 }, intersection);
+        Assert.assertArrayEquals(new int[] { 0, 1 }, difference);
+    }
+
+    @Test
+    public void testInPlaceBulkOperations() {
+        // given
+        IntHashSet other = new IntHashSet();
+        classUnderTest.addAll(new int[] { 0, 1, 2 });
+        other.addAll(new int[] { 2, 3 });
+
+        // when
+        boolean added = classUnderTest.addAll(other);
+        boolean removed = classUnderTest.removeAll(other);
+
+        // then
+        Assert.assertTrue(added);
+        Assert.assertTrue(removed);
+        Assert.assertArrayEquals(new int[] { 0, 1 }, sorted(classUnderTest));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTargetMustDiffer() {
+        // when
+        classUnderTest.union(new IntHashSet(), classUnderTest);
+    }
+
+    private static int[] sorted(IntHashSet set) {
+        int[] array = set.toArray();
+        Arrays.sort(array);
+        return array;
+    }
+}
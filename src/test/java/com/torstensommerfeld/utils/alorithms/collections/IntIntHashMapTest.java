@@ -0,0 +1,94 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IntIntHashMapTest {
+
+    private IntIntHashMap classUnderTest;
+
+    @Before
+    public void setup() {
+        classUnderTest = new IntIntHashMap();
+    }
+
+    @Test
+    public void testPutAndGet() {
+        // when
+        int previous = classUnderTest.put(1, 10);
+        classUnderTest.put(0, 20);
+
+        // then
+        Assert.assertEquals(0, previous);
+        Assert.assertEquals(2, classUnderTest.size());
+        Assert.assertEquals(10, classUnderTest.get(1));
+        Assert.assertEquals(20, classUnderTest.get(0));
+        Assert.assertEquals(0, classUnderTest.get(2));
+        Assert.assertEquals(-1, classUnderTest.getOrDefault(2, -1));
+        Assert.assertTrue(classUnderTest.containsValue(20));
+        Assert.assertFalse(classUnderTest.containsValue(30));
+    }
+
+    @Test
+    public void testIncrement() {
+        // when
+        for (int i = 0; i < 1000; ++i) {
+            classUnderTest.increment(i % 7);
+        }
+        int result = classUnderTest.addTo(0, 5);
+
+        // then
+        Assert.assertEquals(7, classUnderTest.size());
+        Assert.assertEquals(148, result);
+        Assert.assertEquals(142, classUnderTest.get(6));
+    }
+
+    @Test
+    public void testRandomOperations() {
+        // given
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random rnd = new Random(0);
+
+        // when
+        for (int i = 0; i < 200000; ++i) {
+            int key = rnd.nextInt(5000) * 256 - 10000;
+            if (rnd.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                Assert.assertEquals(removed == null ? 0 : removed, classUnderTest.remove(key));
+            } else {
+                expected.merge(key, i, Integer::sum);
+                classUnderTest.addTo(key, i);
+            }
+        }
+
+        // then
+        Assert.assertEquals(expected.size(), classUnderTest.size());
+        expected.forEach((k, v) -> Assert.assertEquals(v.intValue(), classUnderTest.get(k)));
+        int[] count = new int[1];
+        classUnderTest.forEach((k, v) -> {
+            Assert.assertEquals(expected.get(k).intValue(), v);
+            count[0] += 1;
+        });
+        Assert.assertEquals(expected.size(), count[0]);
+    }
+
+    @Test
+    public void testClear() {
+        // given
+        classUnderTest.put(0, 1);
+        classUnderTest.put(1, 2);
+
+        // when
+        classUnderTest.clear();
+
+        // then
+        Assert.assertTrue(classUnderTest.isEmpty());
+        Assert.assertFalse(classUnderTest.containsKey(0));
+        Assert.assertFalse(classUnderTest.containsKey(1));
+    }
+}
@@ -1,5 +1,8 @@
 package com.torstensommerfeld.utils.alorithms.collections;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -43,6 +46,77 @@ public class IntListTest {
         Assert.assertTrue(list.isEmpty());
     }
 
+    @Test
+    public void testInsertAndRemoveRanges() {
+        // given
+        IntList list = createList();
+
+        // when
+        list.add(0, -1);
+        list.addAll(2, new int[] { 7, 8, 9 }, 1, 2);
+        list.removeRange(50, 60);
+        list.addAll(new int[] { 1000, 1001 });
+
+        // then
+        Assert.assertEquals(95, list.size());
+        Assert.assertEquals(-1, list.get(0));
+        Assert.assertEquals(0, list.get(1));
+        Assert.assertEquals(8, list.get(2));
+        Assert.assertEquals(9, list.get(3));
+        Assert.assertEquals(1, list.get(4));
+        Assert.assertEquals(57, list.get(50));
+        Assert.assertEquals(1001, list.get(94));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveRangeOutOfBounds() {
+        // given
+        IntList list = createList();
+
+        // when
+        list.removeRange(90, 101);
+    }
+
+    @Test
+    public void testSortAndBinarySearch() {
+        // given
+        IntList small = new IntList();
+        IntList large = new IntList();
+        Random rnd = new Random(0);
+        for (int i = 0; i < 1000; ++i) {
+            small.add(rnd.nextInt());
+        }
+        for (int i = 0; i < IntList.RADIX_SORT_THRESHOLD + 10; ++i) {
+            large.add(rnd.nextInt());
+        }
+        int[] expectedSmall = small.toArray();
+        int[] expectedLarge = large.toArray();
+        Arrays.sort(expectedSmall);
+        Arrays.sort(expectedLarge);
+
+        // when
+        small.sort();
+        large.sort();
+
+        // then
+        Assert.assertArrayEquals(expectedSmall, small.toArray());
+        Assert.assertArrayEquals(expectedLarge, large.toArray());
+        Assert.assertEquals(500, small.binarySearch(expectedSmall[500]));
+        Assert.assertTrue(large.binarySearch(-5) < 0);
+    }
+
+    @Test
+    public void testStream() {
+        // given
+        IntList list = createList();
+
+        // when
+        long sum = list.stream().asLongStream().sum();
+
+        // then
+        Assert.assertEquals(4950, sum);
+    }
+
     private IntList createList() {
         IntList list = new IntList();
         for (int i = 0; i < 100; ++i) {
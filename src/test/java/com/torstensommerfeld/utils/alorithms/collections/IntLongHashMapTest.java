@@ -0,0 +1,64 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IntLongHashMapTest {
+
+    private IntLongHashMap classUnderTest;
+
+    @Before
+    public void setup() {
+        classUnderTest = new IntLongHashMap();
+    }
+
+    @Test
+    public void testAddTo() {
+        // when
+        for (int i = 0; i < 10000; ++i) {
+            classUnderTest.addTo(i % 100, 1L << 33);
+        }
+
+        // then
+        Assert.assertEquals(100, classUnderTest.size());
+        Assert.assertEquals(100L << 33, classUnderTest.get(0));
+        Assert.assertEquals(100L << 33, classUnderTest.get(99));
+        Assert.assertEquals(-1L, classUnderTest.getOrDefault(100, -1L));
+    }
+
+    @Test
+    public void testRemove() {
+        // given
+        for (int i = 0; i < 1000; ++i) {
+            classUnderTest.put(i, i);
+        }
+
+        // when
+        long removed = classUnderTest.remove(500);
+
+        // then
+        Assert.assertEquals(500L, removed);
+        Assert.assertEquals(999, classUnderTest.size());
+        Assert.assertFalse(classUnderTest.containsKey(500));
+        for (int i = 0; i < 1000; ++i) {
+            if (i != 500) {
+                Assert.assertEquals(i, classUnderTest.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testForEach() {
+        // given
+        classUnderTest.put(0, 1L);
+        classUnderTest.put(1, 2L);
+
+        // when
+        long[] sum = new long[1];
+        classUnderTest.forEach((k, v) -> sum[0] += k + v);
+
+        // then
+        Assert.assertEquals(4L, sum[0]);
+    }
+}
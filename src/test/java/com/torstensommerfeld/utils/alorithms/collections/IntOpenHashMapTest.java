@@ -0,0 +1,232 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IntOpenHashMapTest {
+
+    private IntOpenHashMap<Integer> classUnderTest;
+
+    @Before
+    public void setup() {
+        classUnderTest = new IntOpenHashMap<>();
+    }
+
+    @Test
+    public void testSingleAddition() {
+        // when
+        classUnderTest.put(1, 1);
+
+        // then
+        Assert.assertEquals(1, classUnderTest.size());
+        Assert.assertEquals(new Integer(1), classUnderTest.get(1));
+        Assert.assertNull(classUnderTest.get(2));
+    }
+
+    @Test
+    public void testZeroKey() {
+        // when
+        Integer previous = classUnderTest.put(0, 5);
+
+        // then
+        Assert.assertNull(previous);
+        Assert.assertEquals(1, classUnderTest.size());
+        Assert.assertTrue(classUnderTest.containsKey(0));
+        Assert.assertEquals(new Integer(5), classUnderTest.get(0));
+        Assert.assertEquals(new Integer(5), classUnderTest.remove(0));
+        Assert.assertFalse(classUnderTest.containsKey(0));
+        Assert.assertTrue(classUnderTest.isEmpty());
+    }
+
+    @Test
+    public void testMultipeAddition() {
+        // given
+        int count = 10000;
+        // when
+        for (int i = 0; i < count; ++i) {
+            classUnderTest.put(i, i * 2);
+        }
+
+        // then
+        Assert.assertEquals(count, classUnderTest.size());
+        for (int i = 0; i < count; ++i) {
+            Assert.assertEquals(new Integer(i * 2), classUnderTest.get(i));
+        }
+    }
+
+    @Test
+    public void testRemove() {
+        // given
+        int count = 10000;
+        for (int i = 0; i < count; ++i) {
+            classUnderTest.put(i, i * 2);
+        }
+        int candidate = 1000;
+
+        // when
+        Integer result = classUnderTest.remove(candidate);
+
+        // then
+        Assert.assertEquals(new Integer(candidate * 2), result);
+        Assert.assertEquals(count - 1, classUnderTest.size());
+        Assert.assertFalse(classUnderTest.containsKey(candidate));
+        Assert.assertNull(classUnderTest.get(candidate));
+    }
+
+    @Test
+    public void testRandomOperations() {
+        // given
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random rnd = new Random(0);
+
+        // when
+        for (int i = 0; i < 200000; ++i) {
+            int key = rnd.nextInt(5000) * 1024 - 100000; // strided keys provoke long clusters
+            if (rnd.nextInt(3) == 0) {
+                Assert.assertEquals(expected.remove(key), classUnderTest.remove(key));
+            } else {
+                Assert.assertEquals(expected.put(key, i), classUnderTest.put(key, i));
+            }
+        }
+
+        // then
+        Assert.assertEquals(expected.size(), classUnderTest.size());
+        for (int key = -100000; key < 5000 * 1024; key += 1024) {
+            Assert.assertEquals(expected.get(key), classUnderTest.get(key));
+        }
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        // given
+        classUnderTest.put(1, 2);
+
+        // when
+        Integer existing = classUnderTest.computeIfAbsent(1, k -> 99);
+        Integer created = classUnderTest.computeIfAbsent(2, k -> k * 10);
+        Integer skipped = classUnderTest.computeIfAbsent(3, k -> null);
+
+        // then
+        Assert.assertEquals(new Integer(2), existing);
+        Assert.assertEquals(new Integer(20), created);
+        Assert.assertNull(skipped);
+        Assert.assertEquals(2, classUnderTest.size());
+        Assert.assertFalse(classUnderTest.containsKey(3));
+    }
+
+    @Test
+    public void testMerge() {
+        // when
+        for (int i = 0; i < 100; ++i) {
+            classUnderTest.merge(i % 10, 1, Integer::sum);
+        }
+        classUnderTest.merge(3, 1, (a, b) -> null);
+
+        // then
+        Assert.assertEquals(9, classUnderTest.size());
+        Assert.assertEquals(new Integer(10), classUnderTest.get(0));
+        Assert.assertFalse(classUnderTest.containsKey(3));
+    }
+
+    @Test
+    public void testForEach() {
+        // given
+        classUnderTest.put(0, 1);
+        classUnderTest.put(1, 2);
+        classUnderTest.put(2, 3);
+
+        // when
+        int[] sums = new int[2];
+        classUnderTest.forEach((k, v) -> {
+            sums[0] += k;
+            sums[1] += v;
+        });
+
+        // then
+        Assert.assertEquals(3, sums[0]);
+        Assert.assertEquals(6, sums[1]);
+    }
+
+    @Test
+    public void testPutAll() {
+        // given
+        IntOpenHashMap<Integer> other = new IntOpenHashMap<>();
+        for (int i = 0; i < 1000; ++i) {
+            other.put(i, i);
+        }
+        classUnderTest.put(5000, 1);
+
+        // when
+        classUnderTest.putAll(other);
+
+        // then
+        Assert.assertEquals(1001, classUnderTest.size());
+        Assert.assertEquals(new Integer(0), classUnderTest.get(0));
+        Assert.assertEquals(new Integer(999), classUnderTest.get(999));
+        Assert.assertEquals(new Integer(1), classUnderTest.get(5000));
+    }
+
+    @Test
+    public void testClear() {
+        // given
+        classUnderTest.put(0, 1);
+        classUnderTest.put(1, 2);
+
+        // when
+        classUnderTest.clear();
+
+        // then
+        Assert.assertTrue(classUnderTest.isEmpty());
+        Assert.assertNull(classUnderTest.get(0));
+        Assert.assertNull(classUnderTest.get(1));
+    }
+
+    @Test
+    public void testForEachKeyAndEntry() {
+        // given
+        classUnderTest.put(0, 2);
+        classUnderTest.put(1, 2);
+        classUnderTest.put(2, 4);
+
+        // when
+        int[] keySum = new int[1];
+        int[] entrySum = new int[1];
+        classUnderTest.forEachKey(k -> keySum[0] += k);
+        classUnderTest.forEachEntry((k, v) -> entrySum[0] += k * v);
+
+        // then
+        Assert.assertEquals(3, keySum[0]);
+        Assert.assertEquals(10, entrySum[0]);
+    }
+
+    @Test
+    public void testCursor() {
+        // given
+        for (int i = 0; i < 100; ++i) {
+            classUnderTest.put(i, i);
+        }
+        IntOpenHashMap<Integer>.Cursor cursor = classUnderTest.cursor();
+
+        // when
+        int keySum = 0;
+        while (cursor.advance()) {
+            Assert.assertEquals(cursor.key(), cursor.value().intValue());
+            keySum += cursor.key();
+            cursor.setValue(1);
+        }
+        cursor.reset();
+        int valueSum = 0;
+        while (cursor.advance()) {
+            valueSum += cursor.value();
+        }
+
+        // then
+        Assert.assertEquals(4950, keySum);
+        Assert.assertEquals(100, valueSum);
+    }
+}
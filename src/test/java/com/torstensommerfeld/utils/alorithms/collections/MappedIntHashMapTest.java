@@ -0,0 +1,114 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappedIntHashMapTest {
+
+    private Path file;
+
+    @Before
+    public void setup() throws IOException {
+        file = Files.createTempFile("snapshot", ".bin");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        // given
+        IntHashMap<Integer> map = new IntHashMap<>();
+        for (int i = -500; i < 10000; ++i) {
+            map.put(i * 16, i);
+        }
+        map.put(7, null);
+
+        // when
+        MappedIntHashMap.write(map, file, MappedIntHashMap.ValueCodec.INTEGER);
+        try (MappedIntHashMap<Integer> mapped = MappedIntHashMap.open(file, MappedIntHashMap.ValueCodec.INTEGER)) {
+
+            // then
+            Assert.assertEquals(map.size(), mapped.size());
+            for (int i = -500; i < 10000; ++i) {
+                Assert.assertEquals(new Integer(i), mapped.get(i * 16));
+            }
+            Assert.assertTrue(mapped.containsKey(7));
+            Assert.assertNull(mapped.get(7));
+            Assert.assertFalse(mapped.containsKey(8));
+            Assert.assertEquals(new Integer(-1), mapped.getOrDefault(8, -1));
+            int[] count = new int[1];
+            mapped.forEachEntry((k, v) -> {
+                Assert.assertEquals(map.get(k), v);
+                count[0] += 1;
+            });
+            Assert.assertEquals(map.size(), count[0]);
+        }
+    }
+
+    @Test
+    public void testValuesAcrossWindows() throws IOException {
+        // given
+        IntHashMap<String> map = new IntHashMap<>();
+        for (int i = 0; i < 1000; ++i) {
+            map.put(i, "value-" + i);
+        }
+        map.put(-1, "");
+
+        // when
+        MappedIntHashMap.write(map, file, MappedIntHashMap.ValueCodec.STRING);
+        try (MappedIntHashMap<String> mapped = MappedIntHashMap.open(file, MappedIntHashMap.ValueCodec.STRING, 7)) {
+
+            // then
+            for (int i = 0; i < 1000; ++i) {
+                Assert.assertEquals("value-" + i, mapped.get(i));
+            }
+            Assert.assertEquals("", mapped.get(-1));
+        }
+    }
+
+    @Test
+    public void testEmptyValueAtEndOfLastWindow() throws IOException {
+        // given
+        IntHashMap<String> map = new IntHashMap<>();
+        map.put(5, "");
+
+        // when
+        MappedIntHashMap.write(map, file, MappedIntHashMap.ValueCodec.STRING);
+        Assert.assertEquals(64, Files.size(file)); // the empty value starts at the end of the file, which fills exactly one window
+        try (MappedIntHashMap<String> mapped = MappedIntHashMap.open(file, MappedIntHashMap.ValueCodec.STRING, 6)) {
+
+            // then
+            Assert.assertEquals("", mapped.get(5));
+        }
+    }
+
+    @Test
+    public void testEmptyMap() throws IOException {
+        // when
+        MappedIntHashMap.write(new IntHashMap<Long>(), file, MappedIntHashMap.ValueCodec.LONG);
+        try (MappedIntHashMap<Long> mapped = MappedIntHashMap.open(file, MappedIntHashMap.ValueCodec.LONG)) {
+
+            // then
+            Assert.assertTrue(mapped.isEmpty());
+            Assert.assertNull(mapped.get(0));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testNoSnapshotFile() throws IOException {
+        // given
+        Files.write(file, new byte[64]);
+
+        // when
+        MappedIntHashMap.open(file, MappedIntHashMap.ValueCodec.INTEGER);
+    }
+}
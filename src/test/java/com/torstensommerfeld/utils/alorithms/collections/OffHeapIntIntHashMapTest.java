@@ -0,0 +1,105 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OffHeapIntIntHashMapTest {
+
+    private OffHeapIntIntHashMap classUnderTest;
+
+    @Before
+    public void setup() {
+        // tiny pages to cover the paging
+        classUnderTest = new OffHeapIntIntHashMap(16, 0.75f, IntKeyMixer.FIBONACCI, 4);
+    }
+
+    @After
+    public void tearDown() {
+        classUnderTest.close();
+    }
+
+    @Test
+    public void testPresizing() {
+        // when
+        try (OffHeapIntIntHashMap map = new OffHeapIntIntHashMap(1000)) {
+            // then
+            Assert.assertEquals(2048, map.capacity());
+        }
+    }
+
+    @Test
+    public void testPutAndGet() {
+        // when
+        classUnderTest.put(1, 10);
+        classUnderTest.put(0, 20);
+
+        // then
+        Assert.assertEquals(2, classUnderTest.size());
+        Assert.assertEquals(10, classUnderTest.get(1));
+        Assert.assertEquals(20, classUnderTest.get(0));
+        Assert.assertEquals(0, classUnderTest.get(2));
+        Assert.assertEquals(-1, classUnderTest.getOrDefault(2, -1));
+        Assert.assertTrue(classUnderTest.containsKey(0));
+        Assert.assertFalse(classUnderTest.containsKey(2));
+    }
+
+    @Test
+    public void testRandomOperations() {
+        // given
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random rnd = new Random(0);
+
+        // when
+        for (int i = 0; i < 200000; ++i) {
+            int key = rnd.nextInt(5000) * 256 - 10000;
+            if (rnd.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                Assert.assertEquals(removed == null ? 0 : removed, classUnderTest.remove(key));
+            } else {
+                expected.merge(key, i, Integer::sum);
+                classUnderTest.addTo(key, i);
+            }
+        }
+
+        // then
+        Assert.assertEquals(expected.size(), classUnderTest.size());
+        expected.forEach((k, v) -> Assert.assertEquals(v.intValue(), classUnderTest.get(k)));
+        int[] count = new int[1];
+        classUnderTest.forEach((k, v) -> {
+            Assert.assertEquals(expected.get(k).intValue(), v);
+            count[0] += 1;
+        });
+        Assert.assertEquals(expected.size(), count[0]);
+    }
+
+    @Test
+    public void testClear() {
+        // given
+        for (int i = 0; i < 100; ++i) {
+            classUnderTest.put(i, i);
+        }
+
+        // when
+        classUnderTest.clear();
+
+        // then
+        Assert.assertTrue(classUnderTest.isEmpty());
+        Assert.assertFalse(classUnderTest.containsKey(0));
+        Assert.assertFalse(classUnderTest.containsKey(50));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClosed() {
+        // given
+        classUnderTest.close();
+
+        // when
+        classUnderTest.get(1);
+    }
+}
@@ -1,6 +1,8 @@
 package com.torstensommerfeld.utils.alorithms.collections;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 
@@ -9,6 +11,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.torstensommerfeld.utils.alorithms.collections.UnOrderedArrayList;
+import com.torstensommerfeld.utils.exceptions.NotSupportedException;
 
 public class UnOrderedArrayListTest {
 
@@ -252,6 +255,84 @@ public class UnOrderedArrayListTest {
         Assert.assertEquals(1, classUnderTest.size());
     }
 
+    @Test
+    public void testRemoveAllLarge() {
+        // given
+        List<Integer> toRemove = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            classUnderTest.add(i);
+            if (i % 3 == 0) {
+                toRemove.add(i);
+            }
+        }
+        classUnderTest.add(0);
+
+        // when
+        boolean removed = classUnderTest.removeAll(toRemove);
+
+        // then
+        Assert.assertTrue(removed);
+        Assert.assertEquals(666, classUnderTest.size());
+        for (Object o : classUnderTest) {
+            Assert.assertNotEquals(0, (Integer) o % 3);
+        }
+    }
+
+    @Test
+    public void testRemoveIf() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i);
+        }
+
+        // when
+        boolean removed = classUnderTest.removeIf(o -> (Integer) o >= 5);
+        boolean removedAgain = classUnderTest.removeIf(o -> (Integer) o >= 5);
+
+        // then
+        Assert.assertTrue(removed);
+        Assert.assertFalse(removedAgain);
+        Assert.assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 4)), new HashSet<>(classUnderTest));
+    }
+
+    @Test
+    public void testRemoveIfThrowingFilter() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i);
+        }
+
+        // when
+        try {
+            classUnderTest.removeIf(o -> {
+                if ((Integer) o == 7) {
+                    throw new IllegalStateException();
+                }
+                return (Integer) o < 5;
+            });
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        // then
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), classUnderTest);
+    }
+
+    @Test
+    public void testRemoveIndices() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i);
+        }
+
+        // when
+        classUnderTest.removeIndices(new int[] { 0, 3, 8, 9 });
+
+        // then
+        Assert.assertEquals(new HashSet<>(Arrays.asList(1, 2, 4, 5, 6, 7)), new HashSet<>(classUnderTest));
+    }
+
     @Test
     public void testClear() {
         // given
@@ -415,6 +496,80 @@ public class UnOrderedArrayListTest {
         Assert.assertEquals(testObject1, sublist.get(0));
     }
 
+    @Test
+    public void testSubListIsView() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i);
+        }
+
+        // when
+        List<Object> sublist = classUnderTest.subList(2, 8).subList(1, 3);
+        sublist.set(0, 42);
+
+        // then
+        Assert.assertEquals(Arrays.asList(42, 4), sublist);
+        Assert.assertEquals(42, classUnderTest.get(3));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSubListGetOutOfRange() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i);
+        }
+
+        // when - index 3 of the view would be element 5 of the list
+        classUnderTest.subList(2, 5).get(3);
+    }
+
+    @Test
+    public void testSubListSetOutOfRange() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i);
+        }
+
+        // when
+        try {
+            classUnderTest.subList(2, 5).set(-1, 42);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+
+        // then
+        Assert.assertEquals(1, classUnderTest.get(1));
+    }
+
+    @Test(expected = NotSupportedException.class)
+    public void testSubListStructuralModification() {
+        // given
+        classUnderTest.add(1);
+
+        // when
+        classUnderTest.subList(0, 1).add(2);
+    }
+
+    @Test
+    public void testForEachIndexed() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i * 2);
+        }
+        List<Object> visited = new ArrayList<>();
+
+        // when
+        classUnderTest.forEachIndexed((index, o) -> {
+            Assert.assertEquals(index * 2, o);
+            visited.add(o);
+        });
+
+        // then
+        Assert.assertEquals(classUnderTest, visited);
+        Assert.assertSame(classUnderTest.get(3), classUnderTest.getBuffer()[3]);
+    }
+
     @Test
     public void testToArray() {
         // given
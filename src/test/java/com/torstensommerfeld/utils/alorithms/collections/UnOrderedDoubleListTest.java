@@ -0,0 +1,70 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UnOrderedDoubleListTest {
+
+    private UnOrderedDoubleList classUnderTest;
+
+    @Before
+    public void setup() {
+        classUnderTest = new UnOrderedDoubleList();
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i);
+        }
+
+        // when
+        double removed = classUnderTest.remove(2);
+        boolean removedValue = classUnderTest.removeValue(5);
+        boolean removedMissing = classUnderTest.removeValue(42);
+
+        // then
+        Assert.assertEquals(2, removed, 0);
+        Assert.assertTrue(removedValue);
+        Assert.assertFalse(removedMissing);
+        Assert.assertEquals(8, classUnderTest.size());
+        Assert.assertEquals(9, classUnderTest.get(2), 0);
+        Assert.assertFalse(classUnderTest.contains(5));
+    }
+
+    @Test
+    public void testPushPop() {
+        // given
+        classUnderTest.push(1);
+        classUnderTest.push(2);
+        classUnderTest.push(3);
+
+        // when
+        double first = classUnderTest.pop();
+
+        // then
+        Assert.assertEquals(1, first, 0);
+        Assert.assertEquals(2, classUnderTest.size());
+        Assert.assertEquals(3, classUnderTest.get(0), 0);
+        Assert.assertEquals(2, classUnderTest.getLast(), 0);
+    }
+
+    @Test
+    public void testDrainTo() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i);
+        }
+        double[] target = new double[4];
+
+        // when
+        int drained = classUnderTest.drainTo(target);
+
+        // then
+        Assert.assertEquals(4, drained);
+        Assert.assertArrayEquals(new double[] { 6, 7, 8, 9 }, target, 0);
+        Assert.assertArrayEquals(new double[] { 0, 1, 2, 3, 4, 5 }, classUnderTest.toArray(), 0);
+    }
+}
@@ -0,0 +1,70 @@
+package com.torstensommerfeld.utils.alorithms.collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UnOrderedIntListTest {
+
+    private UnOrderedIntList classUnderTest;
+
+    @Before
+    public void setup() {
+        classUnderTest = new UnOrderedIntList();
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i);
+        }
+
+        // when
+        int removed = classUnderTest.remove(2);
+        boolean removedValue = classUnderTest.removeValue(5);
+        boolean removedMissing = classUnderTest.removeValue(42);
+
+        // then
+        Assert.assertEquals(2, removed);
+        Assert.assertTrue(removedValue);
+        Assert.assertFalse(removedMissing);
+        Assert.assertEquals(8, classUnderTest.size());
+        Assert.assertEquals(9, classUnderTest.get(2));
+        Assert.assertFalse(classUnderTest.contains(5));
+    }
+
+    @Test
+    public void testPushPop() {
+        // given
+        classUnderTest.push(1);
+        classUnderTest.push(2);
+        classUnderTest.push(3);
+
+        // when
+        int first = classUnderTest.pop();
+
+        // then
+        Assert.assertEquals(1, first);
+        Assert.assertEquals(2, classUnderTest.size());
+        Assert.assertEquals(3, classUnderTest.get(0));
+        Assert.assertEquals(2, classUnderTest.getLast());
+    }
+
+    @Test
+    public void testDrainTo() {
+        // given
+        for (int i = 0; i < 10; ++i) {
+            classUnderTest.add(i);
+        }
+        int[] target = new int[4];
+
+        // when
+        int drained = classUnderTest.drainTo(target);
+
+        // then
+        Assert.assertEquals(4, drained);
+        Assert.assertArrayEquals(new int[] { 6, 7, 8, 9 }, target);
+        Assert.assertArrayEquals(new int[] { 0, 1, 2, 3, 4, 5 }, classUnderTest.toArray());
+    }
+}
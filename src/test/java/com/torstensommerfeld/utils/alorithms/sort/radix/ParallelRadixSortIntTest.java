@@ -0,0 +1,76 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ParallelRadixSortIntTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setupPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testBigArray() {
+        // given
+        int[] data = randomArray(3000000, Integer.MAX_VALUE);
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+
+        // when
+        ParallelRadixSortInt.sortLsd(data, pool);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testSkippedPasses() {
+        // given - only the lowest digit differs, 3 of 4 passes are skipped
+        int[] data = randomArray(ParallelRadixSortInt.PARALLEL_THRESHOLD + 1, 256);
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+
+        // when
+        ParallelRadixSortInt.sortLsd(data, pool);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testSmallArrayFallsBack() {
+        // given
+        int[] data = { 10, 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 };
+
+        // when
+        ParallelRadixSortInt.sortLsd(data);
+
+        // then
+        for (int i = 0; i < data.length; ++i) {
+            Assert.assertEquals(i, data[i]);
+        }
+    }
+
+    private static int[] randomArray(int size, int bound) {
+        int[] data = new int[size];
+        Random rnd = new Random(0);
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = rnd.nextInt(bound);
+        }
+        return data;
+    }
+}
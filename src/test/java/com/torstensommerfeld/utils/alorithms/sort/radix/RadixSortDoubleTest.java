@@ -0,0 +1,73 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RadixSortDoubleTest {
+    @Test
+    public void testRandom() {
+        // given
+        double[] data = new Random(0).doubles(100000, -1e6, 1e6).toArray();
+        double[] expected = data.clone();
+        Arrays.sort(expected);
+
+        // when
+        RadixSortDouble.sortLsd(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data, 0);
+    }
+
+    @Test
+    public void testSpecialValues() {
+        // given
+        double[] data = { Double.NaN, 1, -0.0, Double.NEGATIVE_INFINITY, 0.0, -1, Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE };
+        double[] expected = data.clone();
+        Arrays.sort(expected);
+
+        // when
+        RadixSortDouble.sortLsd(data);
+
+        // then
+        for (int i = 0; i < data.length; ++i) {
+            Assert.assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(data[i]));
+        }
+    }
+
+    @Test
+    public void testFloats() {
+        // given
+        float[] data = { Float.NaN, 1.5f, -0.0f, Float.NEGATIVE_INFINITY, 0.0f, -1.5f, 3, -7, Float.MAX_VALUE };
+        float[] expected = data.clone();
+        Arrays.sort(expected);
+
+        // when
+        RadixSortFloat.sortLsd(data);
+
+        // then
+        for (int i = 0; i < data.length; ++i) {
+            Assert.assertEquals(Float.floatToIntBits(expected[i]), Float.floatToIntBits(data[i]));
+        }
+    }
+
+    @Test
+    public void testObjectsStable() {
+        // given - many equal keys, the index decides the order of equal keys
+        double[][] data = new double[10000][];
+        Random rnd = new Random(1);
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = new double[] { rnd.nextInt(100) - 50.5, i };
+        }
+        double[][] expected = data.clone();
+        Arrays.sort(expected, (a, b) -> Double.compare(a[0], b[0]));
+
+        // when
+        RadixSortObjectDouble.sortLsd(data, o -> o[0]);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+}
@@ -0,0 +1,113 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RadixSortIntAdaptiveTest {
+    @Test
+    public void testFullRange() {
+        // given
+        int[] data = randomArray(200000, 0, 0);
+        int[] expected = sorted(data);
+
+        // when
+        RadixSortInt.sortLsdAdaptive(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testSmallRangeWithOffset() {
+        // given - 12 bits of range far away from 0
+        int[] data = randomArray(200000, -1000000, 1 << 12);
+        int[] expected = sorted(data);
+
+        // when
+        RadixSortInt.sortLsdAdaptive(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testRangeWithScratch() {
+        // given
+        int[] data = randomArray(10000, 5, 1 << 20);
+        int[] expected = data.clone();
+        Arrays.sort(expected, 100, 9000);
+
+        // when
+        RadixSortInt.sortLsdAdaptive(data, 100, 9000, new int[8900]);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testExtremeValues() {
+        // given
+        int[] data = { 0, Integer.MAX_VALUE, -1, Integer.MIN_VALUE, 1, Integer.MIN_VALUE + 1, 7, 7 };
+        int[] expected = sorted(data);
+
+        // when
+        RadixSortInt.sortLsdAdaptive(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testConstantAndTiny() {
+        // given
+        int[] constant = { 3, 3, 3 };
+        int[] pair = { 2, 1 };
+
+        // when
+        RadixSortInt.sortLsdAdaptive(constant);
+        RadixSortInt.sortLsdAdaptive(pair);
+
+        // then
+        Assert.assertArrayEquals(new int[] { 3, 3, 3 }, constant);
+        Assert.assertArrayEquals(new int[] { 1, 2 }, pair);
+    }
+
+    @Test
+    public void testPasses() {
+        // then - small ranges need a single pass for big arrays, small arrays prefer small histograms
+        Assert.assertEquals(1, RadixSortInt.passes(12, 1000000));
+        Assert.assertEquals(2, RadixSortInt.passes(12, 1000));
+        Assert.assertEquals(2, RadixSortInt.passes(32, 10000000));
+        Assert.assertEquals(4, RadixSortInt.passes(32, 1000));
+    }
+
+    @Test
+    public void testMsdSubRange() {
+        // given - the value outside of the range must not matter
+        int[] data = { Integer.MAX_VALUE, 3, 1, 2, 0 };
+
+        // when
+        RadixSortInt.sortMsdBinaryInPlace(data, 1, 4);
+
+        // then
+        Assert.assertArrayEquals(new int[] { Integer.MAX_VALUE, 0, 1, 2, 3 }, data);
+    }
+
+    private static int[] randomArray(int size, int offset, int bound) {
+        int[] data = new int[size];
+        Random rnd = new Random(0);
+        for (int i = 0; i < size; ++i) {
+            data[i] = offset + (bound == 0 ? rnd.nextInt() : rnd.nextInt(bound));
+        }
+        return data;
+    }
+
+    private static int[] sorted(int[] data) {
+        int[] result = data.clone();
+        Arrays.sort(result);
+        return result;
+    }
+}
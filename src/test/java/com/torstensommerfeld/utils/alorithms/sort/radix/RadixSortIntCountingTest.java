@@ -0,0 +1,81 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RadixSortIntCountingTest {
+    @Test
+    public void testSmallArray() {
+        // given
+        int[] is = { 10, 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 11, 12, 13, 14, 15, 16, 17, 18, 19 };
+
+        // when
+        RadixSortInt.sortLsdCounting(is);
+
+        // then
+        for (int i = 0; i < 20; ++i) {
+            Assert.assertEquals(i, is[i]);
+        }
+    }
+
+    @Test
+    public void testEmptyAndSingleton() {
+        // given
+        int[] empty = {};
+        int[] singleton = { 1 };
+
+        // when
+        RadixSortInt.sortLsdCounting(empty);
+        RadixSortInt.sortLsdCounting(singleton);
+
+        // then
+        Assert.assertEquals(0, empty.length);
+        Assert.assertEquals(1, singleton[0]);
+    }
+
+    @Test
+    public void testRangeWithScratch() {
+        // given - an odd number of executed passes (3 of 4, the top digit is always 0) ends in the scratch array
+        int[] data = new int[100000];
+        Random rnd = new Random(0);
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = rnd.nextInt(1 << 24);
+        }
+        int[] expected = data.clone();
+        Arrays.sort(expected, 100, 90000);
+        int[] scratch = new int[89900];
+
+        // when
+        RadixSortInt.sortLsdCounting(data, 100, 90000, scratch);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void bigTest() {
+        // given
+        int[] data = new int[1000000];
+        Random rnd = new Random(1);
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = rnd.nextInt(Integer.MAX_VALUE);
+        }
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+
+        // when
+        RadixSortInt.sortLsdCounting(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testScratchTooSmall() {
+        // when
+        RadixSortInt.sortLsdCounting(new int[10], 0, 10, new int[9]);
+    }
+}
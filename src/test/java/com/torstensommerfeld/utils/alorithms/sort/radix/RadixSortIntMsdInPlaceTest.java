@@ -0,0 +1,95 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RadixSortIntMsdInPlaceTest {
+    @Test
+    public void testFullRange() {
+        // given
+        int[] data = randomArray(200000, 0, 0);
+        int[] expected = sorted(data);
+
+        // when
+        RadixSortInt.sortMsdInPlace(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testManyDuplicates() {
+        // given - same high digits for all values, buckets bigger than the insertion sort threshold on the last digit
+        int[] data = randomArray(100000, 1 << 20, 100);
+        int[] expected = sorted(data);
+
+        // when
+        RadixSortInt.sortMsdInPlace(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testRange() {
+        // given
+        int[] data = randomArray(10000, -5000, 1 << 16);
+        int[] expected = data.clone();
+        Arrays.sort(expected, 100, 9000);
+
+        // when
+        RadixSortInt.sortMsdInPlace(data, 100, 9000);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testExtremeValues() {
+        // given
+        int[] data = new int[1000];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i % 4 == 0 ? Integer.MIN_VALUE : i % 4 == 1 ? Integer.MAX_VALUE : i % 4 == 2 ? -1 : 0;
+        }
+        int[] expected = sorted(data);
+
+        // when
+        RadixSortInt.sortMsdInPlace(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testSmallArrays() {
+        // given - below the insertion sort threshold
+        int[] empty = {};
+        int[] small = { 5, -3, 9, 0, -3 };
+
+        // when
+        RadixSortInt.sortMsdInPlace(empty);
+        RadixSortInt.sortMsdInPlace(small);
+
+        // then
+        Assert.assertArrayEquals(new int[] {}, empty);
+        Assert.assertArrayEquals(new int[] { -3, -3, 0, 5, 9 }, small);
+    }
+
+    private static int[] randomArray(int size, int offset, int bound) {
+        int[] data = new int[size];
+        Random rnd = new Random(0);
+        for (int i = 0; i < size; ++i) {
+            data[i] = offset + (bound == 0 ? rnd.nextInt() : rnd.nextInt(bound));
+        }
+        return data;
+    }
+
+    private static int[] sorted(int[] data) {
+        int[] result = data.clone();
+        Arrays.sort(result);
+        return result;
+    }
+}
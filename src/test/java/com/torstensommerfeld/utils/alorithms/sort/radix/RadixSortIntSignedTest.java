@@ -0,0 +1,89 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RadixSortIntSignedTest {
+    @Test
+    public void testLsd() {
+        // given
+        int[] data = randomArray();
+        int[] expected = sorted(data);
+
+        // when
+        RadixSortInt.sortLsdSigned(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testLsdCounting() {
+        // given
+        int[] data = randomArray();
+        int[] expected = sorted(data);
+
+        // when
+        RadixSortInt.sortLsdCountingSigned(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testMsdBinaryInPlace() {
+        // given
+        int[] data = randomArray();
+        int[] expected = sorted(data);
+
+        // when
+        RadixSortInt.sortMsdBinaryInPlaceSigned(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testObjectLsd() {
+        // given
+        int[] keys = randomArray();
+        Integer[] data = Arrays.stream(keys).boxed().toArray(Integer[]::new);
+
+        // when
+        RadixSortObjectInt.sortLsdSigned(data, Integer::intValue);
+
+        // then
+        Assert.assertArrayEquals(sorted(keys), Arrays.stream(data).mapToInt(Integer::intValue).toArray());
+    }
+
+    @Test
+    public void testExtremeValues() {
+        // given
+        int[] data = { 0, Integer.MAX_VALUE, -1, Integer.MIN_VALUE, 1, Integer.MIN_VALUE + 1 };
+        int[] expected = sorted(data);
+
+        // when
+        RadixSortInt.sortLsdCountingSigned(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    private static int[] randomArray() {
+        int[] data = new int[100000];
+        Random rnd = new Random(0);
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = rnd.nextInt();
+        }
+        return data;
+    }
+
+    private static int[] sorted(int[] data) {
+        int[] result = data.clone();
+        Arrays.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RadixSortLongTest {
+    @Test
+    public void testRandom() {
+        // given
+        long[] data = new Random(0).longs(100000).toArray();
+        long[] expected = data.clone();
+        Arrays.sort(expected);
+
+        // when
+        RadixSortLong.sortLsd(data);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testRangeWithSkippedPasses() {
+        // given - timestamps share their upper digits
+        long[] data = new long[10000];
+        Random rnd = new Random(1);
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = 1500000000000L + rnd.nextInt(1000000);
+        }
+        long[] expected = data.clone();
+        Arrays.sort(expected, 10, 9000);
+
+        // when
+        RadixSortLong.sortLsd(data, 10, 9000, new long[8990]);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testObjects() {
+        // given
+        Long[] data = new Random(2).longs(10000, -1000, 1000).boxed().toArray(Long[]::new);
+        Long[] expected = data.clone();
+        Arrays.sort(expected);
+
+        // when
+        RadixSortObjectLong.sortLsd(data, Long::longValue);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+}
@@ -0,0 +1,137 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RadixSortObjectIntCountingTest {
+    private static final Comparator<int[]> BY_KEY = Comparator.comparingInt(o -> o[0]);
+
+    @Test
+    public void testArrayIsStable() {
+        // given
+        int[][] data = randomData(100000);
+        int[][] expected = data.clone();
+        Arrays.sort(expected, BY_KEY);
+
+        // when
+        RadixSortObjectInt.sortLsdCounting(data, o -> o[0]);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testArrayRange() {
+        // given
+        int[][] data = randomData(1000);
+        int[][] expected = data.clone();
+        Arrays.sort(expected, 100, 900, BY_KEY);
+        int[][] scratch = new int[800][];
+
+        // when
+        RadixSortObjectInt.sortLsdCounting(data, 100, 900, o -> o[0], scratch);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+        Assert.assertArrayEquals(new int[800][], scratch);
+    }
+
+    @Test
+    public void testList() {
+        // given
+        List<int[]> data = new ArrayList<>(Arrays.asList(randomData(1000)));
+        List<int[]> expected = new ArrayList<>(data);
+        expected.sort(BY_KEY);
+
+        // when
+        RadixSortObjectInt.sortLsdCounting(data, o -> o[0]);
+
+        // then
+        Assert.assertEquals(expected, data);
+    }
+
+    @Test
+    public void testListRange() {
+        // given
+        List<int[]> data = new ArrayList<>(Arrays.asList(randomData(1000)));
+        List<int[]> expected = new ArrayList<>(data);
+        expected.subList(10, 500).sort(BY_KEY);
+
+        // when
+        RadixSortObjectInt.sortLsdCounting(data, 10, 500, o -> o[0]);
+
+        // then
+        Assert.assertEquals(expected, data);
+    }
+
+    @Test
+    public void testArraySignedIsStable() {
+        // given
+        int[][] data = randomSignedData(100000);
+        int[][] expected = data.clone();
+        Arrays.sort(expected, BY_KEY);
+
+        // when
+        RadixSortObjectInt.sortLsdCountingSigned(data, o -> o[0]);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void testArrayRangeSigned() {
+        // given
+        int[][] data = randomSignedData(1000);
+        int[][] expected = data.clone();
+        Arrays.sort(expected, 100, 900, BY_KEY);
+        int[][] scratch = new int[800][];
+
+        // when
+        RadixSortObjectInt.sortLsdCountingSigned(data, 100, 900, o -> o[0], scratch);
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+        Assert.assertArrayEquals(new int[800][], scratch);
+    }
+
+    @Test
+    public void testListSigned() {
+        // given
+        List<int[]> data = new ArrayList<>(Arrays.asList(randomSignedData(1000)));
+        List<int[]> expected = new ArrayList<>(data);
+        expected.subList(10, 500).sort(BY_KEY);
+
+        // when
+        RadixSortObjectInt.sortLsdCountingSigned(data, 10, 500, o -> o[0]);
+
+        // then
+        Assert.assertEquals(expected, data);
+    }
+
+    private static int[][] randomData(int size) {
+        int[][] data = new int[size][];
+        Random rnd = new Random(0);
+        for (int i = 0; i < size; ++i) {
+            // few distinct keys to check stability, some with high digits set
+            data[i] = new int[] { rnd.nextInt(500) << (rnd.nextBoolean() ? 0 : 20), i };
+        }
+        return data;
+    }
+
+    private static int[][] randomSignedData(int size) {
+        int[][] data = new int[size][];
+        Random rnd = new Random(0);
+        for (int i = 0; i < size; ++i) {
+            data[i] = new int[] { rnd.nextInt(500) - 250, i };
+        }
+        data[0][0] = Integer.MIN_VALUE;
+        data[1][0] = Integer.MAX_VALUE;
+        return data;
+    }
+}
@@ -0,0 +1,56 @@
+package com.torstensommerfeld.utils.alorithms.sort.radix;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RadixSortObjectIntPermutationTest {
+    @Test
+    public void testSortIndices() {
+        // given
+        Integer[] data = { 5, -3, 9, 0, -3, 2 };
+
+        // when
+        int[] indices = RadixSortObjectInt.sortIndices(data, Integer::intValue);
+
+        // then - stable: the first -3 comes first
+        Assert.assertArrayEquals(new int[] { 1, 4, 3, 5, 0, 2 }, indices);
+        Assert.assertArrayEquals(new Integer[] { 5, -3, 9, 0, -3, 2 }, data);
+    }
+
+    @Test
+    public void testSortLsdPermutation() {
+        // given
+        int[][] data = new int[100000][];
+        Random rnd = new Random(0);
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = new int[] { rnd.nextInt(2000) - 1000, i };
+        }
+        int[][] expected = data.clone();
+        Arrays.sort(expected, Comparator.comparingInt(o -> o[0]));
+        AtomicInteger keyReads = new AtomicInteger();
+
+        // when
+        RadixSortObjectInt.sortLsdPermutation(data, o -> {
+            keyReads.incrementAndGet();
+            return o[0];
+        });
+
+        // then
+        Assert.assertArrayEquals(expected, data);
+        Assert.assertEquals(data.length, keyReads.get());
+    }
+
+    @Test
+    public void testEmpty() {
+        // when
+        int[] indices = RadixSortObjectInt.sortIndices(new Object[0], Object::hashCode);
+
+        // then
+        Assert.assertEquals(0, indices.length);
+    }
+}
@@ -3,6 +3,7 @@ package com.torstensommerfeld.utils.math;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.torstensommerfeld.utils.alorithms.collections.DoubleList;
 import com.torstensommerfeld.utils.math.model.Line;
 import com.torstensommerfeld.utils.math.shapes.Circle;
 import com.torstensommerfeld.utils.math.shapes.CubicFunctionParameters;
@@ -571,6 +572,23 @@ public class Geo2DTest {
         Assert.assertEquals(4, result.getY0(), NumberUtil.DEFAULT_EPSILON);
     }
 
+    @Test
+    public void testFindCenterLine_doubleList() {
+
+        // given - the buffer of the list is bigger than its content
+        DoubleList points = new DoubleList(100);
+        points.addAll(new double[] { 0, 0, 6, 0, 6, 2, 4, 2, 4, 6, 6, 6, 6, 8, 0, 8, 0, 6, 2, 6, 2, 2, 0, 2 });
+
+        // when
+        Line result = Geo2D.findCenterLine(points, new Line());
+
+        // then
+        Assert.assertEquals(0, result.getDx(), NumberUtil.DEFAULT_EPSILON);
+        Assert.assertEquals(1, Math.abs(result.getDy()), NumberUtil.DEFAULT_EPSILON);
+        Assert.assertEquals(3, result.getX0(), NumberUtil.DEFAULT_EPSILON);
+        Assert.assertEquals(4, result.getY0(), NumberUtil.DEFAULT_EPSILON);
+    }
+
     @Test
     public void testFindCenterLine_horizontal() {
 